@@ -0,0 +1,50 @@
+package com.github.erdragh.structures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.erdragh.structures.IList;
+
+/**
+ * Measures building a list by putting one element after the other, which used to take quadratic time in <code>SingleLinkedList</code>. With the GC profiler the allocated bytes per build show how much memory each kind of list needs per element.
+ * <code>PersistentList</code> is left out, since its <code>put</code> copies the whole list by design.
+ * @author Erdragh
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class BuildBenchmark {
+
+	@Param({"SingleLinkedList", "DoubleLinkedList", "ArrayRingList", "UnrolledLinkedList", "IndexableSkipList", "OffHeapList", "ConcurrentLinkedIList", "StampedList", "java.util.ArrayList", "java.util.LinkedList", "java.util.ArrayDeque"})
+	public String kind;
+
+	@Param({"100", "10000", "1000000", "10000000"})
+	public int size;
+
+	@Benchmark
+	public int put() {
+		IList<Long> list = Lists.create(kind);
+		for (int i = 0; i < size; i++) {
+			list.put(Lists.VALUE);
+		}
+		int length = list.length();
+		Lists.dispose(list);
+		return length;
+	}
+
+}
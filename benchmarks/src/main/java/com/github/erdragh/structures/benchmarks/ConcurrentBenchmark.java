@@ -0,0 +1,85 @@
+package com.github.erdragh.structures.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.erdragh.structures.IList;
+
+/**
+ * Measures the thread-safe lists against an <code>ArrayRingList</code> behind a plain lock, with several threads using the same list. The <code>reading</code> group has three threads reading at random indexes while one thread puts and pulls, which shows how well <code>StampedList</code> lets readers run side by side. The <code>queue</code> group has two threads putting and two pulling.
+ * The throughput is reported per thread and for the whole group. To see how reading scales, run the group with other thread counts, for example with <code>-tg 7,1</code>.
+ * @author Erdragh
+ * @version 1.0
+ */
+
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class ConcurrentBenchmark {
+
+	@Param({"ConcurrentLinkedIList", "StampedList", "BlockingIList", "SynchronizedList"})
+	public String kind;
+
+	@Param({"100", "10000"})
+	public int size;
+
+	private IList<Long> list;
+
+	@Setup
+	public void setup() {
+		list = Lists.create(kind, size);
+	}
+
+	@TearDown
+	public void tearDown() {
+		Lists.dispose(list);
+	}
+
+	@Benchmark
+	@Group("reading")
+	@GroupThreads(3)
+	public Long read() {
+		return list.get(ThreadLocalRandom.current().nextInt(size));
+	}
+
+	@Benchmark
+	@Group("reading")
+	@GroupThreads(1)
+	public Long write() {
+		list.put(Lists.VALUE);
+		return list.pull();
+	}
+
+	@Benchmark
+	@Group("queue")
+	@GroupThreads(2)
+	public void produce() {
+		list.put(Lists.VALUE);
+	}
+
+	@Benchmark
+	@Group("queue")
+	@GroupThreads(2)
+	public Long consume() {
+		return list.pull();
+	}
+
+}
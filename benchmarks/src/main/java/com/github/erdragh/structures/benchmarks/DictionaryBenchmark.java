@@ -0,0 +1,92 @@
+package com.github.erdragh.structures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.erdragh.structures.ArrayRingList;
+import com.github.erdragh.structures.DictionaryList;
+import com.github.erdragh.structures.IList;
+import com.github.erdragh.structures.StringDictionary;
+
+/**
+ * Measures lists of strings with few distinct values, like host names, where every element is a string of its own as it would be after parsing. <code>get</code> reads at spread out indexes, <code>putPull</code> adds a new string and removes the first one, which for a <code>DictionaryList</code> includes looking up its code.
+ * The memory the lists take is not measured here, the strings of an <code>ArrayRingList</code> take about 80 bytes per element, while a <code>DictionaryList</code> takes about 4 bytes per element and its dictionary.
+ * @author Erdragh
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class DictionaryBenchmark {
+
+	@Param({"ArrayRingList", "DictionaryList", "FrontCodedDictionaryList"})
+	public String kind;
+
+	@Param({"100", "100000"})
+	public int cardinality;
+
+	@Param({"1000000"})
+	public int size;
+
+	private IList<String> list;
+	private int[] indexes;
+	private int next;
+	private int counter;
+
+	@Setup
+	public void setup() {
+		switch (kind) {
+			case "ArrayRingList":
+				list = new ArrayRingList<String>();
+				break;
+			case "DictionaryList":
+				list = new DictionaryList();
+				break;
+			case "FrontCodedDictionaryList":
+				list = new DictionaryList(new StringDictionary(true));
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown kind of list: " + kind);
+		}
+		for (int i = 0; i < size; i++) {
+			list.put(host(i));
+		}
+		indexes = IndexBenchmark.indexes(size);
+	}
+
+	/**
+	 * Builds a new host name string, so equal names are never the same instance
+	 * @param i a number deciding which of the host names it is
+	 * @return the host name
+	 */
+	private String host(int i) {
+		return "host-" + (i % cardinality) + ".eu-west-1.compute.internal";
+	}
+
+	@Benchmark
+	public String get() {
+		return list.get(indexes[next++ & (indexes.length - 1)]);
+	}
+
+	@Benchmark
+	public String putPull() {
+		list.put(host(counter++));
+		return list.pull();
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.github.erdragh.structures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.erdragh.structures.IList;
+
+/**
+ * Measures the methods that work on the ends of a list: <code>put</code>, <code>push</code>, <code>take</code>, <code>pull</code> and <code>length</code>. Adding and removing are measured in pairs, so the list keeps its size.
+ * With the GC profiler, <code>putPull</code> on <code>PooledSingleLinkedList</code> shows whether the steady state of a queue allocates anything.
+ * @author Erdragh
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class EndsBenchmark {
+
+	@Param({"SingleLinkedList", "PooledSingleLinkedList", "DoubleLinkedList", "ArrayRingList", "UnrolledLinkedList", "IndexableSkipList", "OffHeapList", "MappedFileList", "ConcurrentLinkedIList", "PersistentList", "StampedList", "java.util.ArrayList", "java.util.LinkedList", "java.util.ArrayDeque"})
+	public String kind;
+
+	@Param({"100", "10000", "1000000", "10000000"})
+	public int size;
+
+	private IList<Long> list;
+
+	@Setup
+	public void setup() {
+		list = Lists.create(kind, size);
+	}
+
+	@TearDown
+	public void tearDown() {
+		Lists.dispose(list);
+	}
+
+	/**
+	 * Uses the list as a stack at its end
+	 */
+	@Benchmark
+	public Long putTake() {
+		list.put(Lists.VALUE);
+		return list.take();
+	}
+
+	/**
+	 * Uses the list as a stack at its beginning
+	 */
+	@Benchmark
+	public Long pushPull() {
+		list.push(Lists.VALUE);
+		return list.pull();
+	}
+
+	/**
+	 * Uses the list as a queue
+	 */
+	@Benchmark
+	public Long putPull() {
+		list.put(Lists.VALUE);
+		return list.pull();
+	}
+
+	@Benchmark
+	public int length() {
+		return list.length();
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.github.erdragh.structures.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.erdragh.structures.IList;
+
+/**
+ * Measures the methods that work at an index: <code>get</code>, <code>set</code>, <code>insert</code> and <code>remove</code>, each at indexes spread evenly over the list. Inserting and removing are measured in pairs, so the list keeps its size.
+ * @author Erdragh
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class IndexBenchmark {
+
+	/**
+	 * The number of precomputed indexes, a power of two so the next one is found with a mask
+	 */
+	static final int INDEXES = 1024;
+
+	@Param({"SingleLinkedList", "DoubleLinkedList", "ArrayRingList", "UnrolledLinkedList", "IndexableSkipList", "OffHeapList", "MappedFileList", "ConcurrentLinkedIList", "PersistentList", "StampedList", "java.util.ArrayList", "java.util.LinkedList"})
+	public String kind;
+
+	@Param({"100", "10000", "1000000", "10000000"})
+	public int size;
+
+	private IList<Long> list;
+	private int[] indexes;
+	private int next;
+
+	@Setup
+	public void setup() {
+		list = Lists.create(kind, size);
+		indexes = indexes(size);
+	}
+
+	@TearDown
+	public void tearDown() {
+		Lists.dispose(list);
+	}
+
+	/**
+	 * Creates random indexes in a list of the given size, always the same ones so runs can be compared
+	 * @param size the size of the list
+	 * @return <code>INDEXES</code> indexes in the list
+	 */
+	static int[] indexes(int size) {
+		Random random = new Random(42);
+		int[] indexes = new int[INDEXES];
+		for (int i = 0; i < INDEXES; i++) {
+			indexes[i] = random.nextInt(size);
+		}
+		return indexes;
+	}
+
+	private int index() {
+		return indexes[next++ & (INDEXES - 1)];
+	}
+
+	@Benchmark
+	public Long get() {
+		return list.get(index());
+	}
+
+	@Benchmark
+	public void set() {
+		list.set(index(), Lists.VALUE);
+	}
+
+	@Benchmark
+	public void insertRemove() {
+		int i = index();
+		list.insert(i, Lists.VALUE);
+		list.remove(i);
+	}
+
+}
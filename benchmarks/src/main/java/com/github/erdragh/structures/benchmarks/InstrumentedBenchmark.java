@@ -0,0 +1,72 @@
+package com.github.erdragh.structures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.erdragh.structures.IList;
+import com.github.erdragh.structures.InstrumentedIList;
+import com.github.erdragh.structures.SingleLinkedList;
+
+/**
+ * Measures what <code>InstrumentedIList</code> costs, by running the same calls on a plain <code>SingleLinkedList</code>, on one that is instrumented with measuring disabled, and on one that is measuring.
+ * @author Erdragh
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentedBenchmark {
+
+	@Param({"plain", "disabled", "enabled"})
+	public String mode;
+
+	@Param({"100", "10000"})
+	public int size;
+
+	private IList<Long> list;
+	private int[] indexes;
+	private int next;
+
+	@Setup
+	public void setup() {
+		SingleLinkedList<Long> plain = new SingleLinkedList<Long>();
+		if (mode.equals("plain")) {
+			list = plain;
+		} else {
+			InstrumentedIList<Long> instrumented = new InstrumentedIList<Long>(plain);
+			instrumented.setEnabled(mode.equals("enabled"));
+			list = instrumented;
+		}
+		for (int i = 0; i < size; i++) {
+			list.put(Lists.VALUE);
+		}
+		indexes = IndexBenchmark.indexes(size);
+	}
+
+	@Benchmark
+	public Long putPull() {
+		list.put(Lists.VALUE);
+		return list.pull();
+	}
+
+	@Benchmark
+	public Long get() {
+		return list.get(indexes[next++ & (IndexBenchmark.INDEXES - 1)]);
+	}
+
+}
@@ -0,0 +1,497 @@
+package com.github.erdragh.structures.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+
+import com.github.erdragh.structures.ArrayRingList;
+import com.github.erdragh.structures.BlockingIList;
+import com.github.erdragh.structures.ICursor;
+import com.github.erdragh.structures.ConcurrentLinkedIList;
+import com.github.erdragh.structures.DoubleLinkedList;
+import com.github.erdragh.structures.HashIndexedList;
+import com.github.erdragh.structures.IList;
+import com.github.erdragh.structures.IRecordCodec;
+import com.github.erdragh.structures.ISerializer;
+import com.github.erdragh.structures.IndexableSkipList;
+import com.github.erdragh.structures.MappedFileList;
+import com.github.erdragh.structures.OffHeapList;
+import com.github.erdragh.structures.PersistentList;
+import com.github.erdragh.structures.SingleLinkedList;
+import com.github.erdragh.structures.StampedList;
+import com.github.erdragh.structures.UnrolledLinkedList;
+
+/**
+ * Creates the lists the benchmarks compare, by the name used in the <code>kind</code> parameter of the benchmarks. Besides the lists of this repository, the lists of <code>java.util</code> can be used through small adapters, so every benchmark runs the exact same code on them.
+ * @author Erdragh
+ * @version 1.0
+ */
+
+final class Lists {
+
+	/**
+	 * The value put into the lists. It is boxed once, so the benchmarks do not measure boxing.
+	 */
+	static final Long VALUE = 42L;
+
+	private Lists() {
+	}
+
+	/**
+	 * Creates an empty list of the given kind
+	 * @param kind the simple name of a list of this repository, <code>PooledSingleLinkedList</code> for a <code>SingleLinkedList</code> with a node pool, <code>SynchronizedList</code> for an <code>ArrayRingList</code> behind a plain lock, <code>BlockingIList</code> for a <code>DoubleLinkedList</code> behind one, or the full name of a list of <code>java.util</code>
+	 * @return an empty list
+	 */
+	static IList<Long> create(String kind) {
+		switch (kind) {
+			case "SingleLinkedList":
+				return new SingleLinkedList<Long>();
+			case "PooledSingleLinkedList":
+				return new SingleLinkedList<Long>(1024);
+			case "DoubleLinkedList":
+				return new DoubleLinkedList<Long>();
+			case "ArrayRingList":
+				return new ArrayRingList<Long>();
+			case "UnrolledLinkedList":
+				return new UnrolledLinkedList<Long>();
+			case "IndexableSkipList":
+				return new IndexableSkipList<Long>();
+			case "HashIndexedList":
+				return new HashIndexedList<Long>();
+			case "OffHeapList":
+				return new OffHeapList<Long>(IRecordCodec.LONGS);
+			case "MappedFileList":
+				return mappedFileList();
+			case "ConcurrentLinkedIList":
+				return new ConcurrentLinkedIList<Long>();
+			case "PersistentList":
+				return new PersistentList<Long>();
+			case "StampedList":
+				return new StampedList<Long>(new ArrayRingList<Long>());
+			case "SynchronizedList":
+				return new SynchronizedList<Long>(new ArrayRingList<Long>());
+			case "BlockingIList":
+				return new BlockingIList<Long>(new DoubleLinkedList<Long>());
+			case "java.util.ArrayList":
+				return new JavaList<Long>(new ArrayList<Long>());
+			case "java.util.LinkedList":
+				return new JavaList<Long>(new LinkedList<Long>());
+			case "java.util.ArrayDeque":
+				return new JavaDeque<Long>();
+			default:
+				throw new IllegalArgumentException("Unknown kind of list: " + kind);
+		}
+	}
+
+	/**
+	 * Creates a <code>MappedFileList</code> in a new temporary file, which is deleted when the benchmark ends
+	 * @return an empty list
+	 */
+	private static IList<Long> mappedFileList() {
+		try {
+			Path file = Files.createTempFile("benchmark", ".list");
+			Files.delete(file);
+			file.toFile().deleteOnExit();
+			file.resolveSibling(file.getFileName() + ".index").toFile().deleteOnExit();
+			return new MappedFileList<Long>(file, ISerializer.of(IRecordCodec.LONGS));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Creates a list of the given kind holding the given number of elements
+	 * @param kind the kind of list, see <code>create</code>
+	 * @param size the number of elements
+	 * @return the filled list
+	 */
+	static IList<Long> create(String kind, int size) {
+		IList<Long> list = create(kind);
+		if (list instanceof PersistentList) {
+			//putting copies the whole persistent list, inserting all at once only builds it once
+			List<Long> values = new ArrayList<Long>(size);
+			for (int i = 0; i < size; i++) {
+				values.add(VALUE);
+			}
+			list.putAll(values);
+		} else {
+			for (int i = 0; i < size; i++) {
+				list.put(VALUE);
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * Frees what a list holds outside of the heap, so the next fork does not run out of direct memory
+	 * @param list the list that is not used anymore
+	 */
+	static void dispose(IList<Long> list) {
+		if (list instanceof AutoCloseable) {
+			try {
+				((AutoCloseable) list).close();
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	/**
+	 * Makes a <code>java.util.List</code> usable as an <code>IList</code>
+	 */
+	static final class JavaList<T> implements IList<T> {
+
+		/**
+		 * The list that stores the data
+		 */
+		private final List<T> list;
+
+		JavaList(List<T> list) {
+			this.list = list;
+		}
+
+		@Override
+		public void put(T data) {
+			list.add(data);
+		}
+
+		@Override
+		public void push(T data) {
+			list.add(0, data);
+		}
+
+		@Override
+		public T take() {
+			return list.isEmpty() ? null : list.remove(list.size() - 1);
+		}
+
+		@Override
+		public T pull() {
+			return list.isEmpty() ? null : list.remove(0);
+		}
+
+		@Override
+		public T get(int i) {
+			return i < 0 || i >= list.size() ? null : list.get(i);
+		}
+
+		@Override
+		public void set(int i, T data) {
+			if (i == list.size()) {
+				list.add(data);
+			} else if (i >= 0 && i < list.size()) {
+				list.set(i, data);
+			}
+		}
+
+		@Override
+		public void remove(int i) {
+			if (i >= 0 && i < list.size()) {
+				list.remove(i);
+			}
+		}
+
+		@Override
+		public void insert(int i, T data) {
+			if (i >= 0 && i <= list.size()) {
+				list.add(i, data);
+			}
+		}
+
+		@Override
+		public void removeAfter(int i) {
+			if (i >= 0 && i < list.size()) {
+				list.subList(i + 1, list.size()).clear();
+			}
+		}
+
+		@Override
+		public void removeBefore(int i) {
+			if (i >= 0 && i < list.size()) {
+				list.subList(0, i).clear();
+			} else {
+				list.clear();
+			}
+		}
+
+		@Override
+		public IList<T> splitAt(int i) {
+			JavaList<T> tail = new JavaList<T>(new ArrayList<T>());
+			if (i >= 0 && i < list.size()) {
+				List<T> moved = list.subList(i, list.size());
+				tail.list.addAll(moved);
+				moved.clear();
+			}
+			return tail;
+		}
+
+		@Override
+		public void removeRange(int from, int to) {
+			if (from >= 0 && to <= list.size() && from < to) {
+				list.subList(from, to).clear();
+			}
+		}
+
+		@Override
+		public IList<T> subList(int from, int to) {
+			return new JavaList<T>(list.subList(from, to));
+		}
+
+		/**
+		 * Walks the list with its own iterator, since going through <code>get</code> would make walking a <code>LinkedList</code> quadratic. The benchmarks never insert through a cursor, so that is not supported.
+		 */
+		@Override
+		public ICursor<T> cursor() {
+			ListIterator<T> iterator = list.listIterator();
+			return new ICursor<T>() {
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public T next() {
+					return iterator.next();
+				}
+
+				@Override
+				public void set(T data) {
+					iterator.set(data);
+				}
+
+				@Override
+				public void remove() {
+					iterator.remove();
+				}
+
+				@Override
+				public void insertBefore(T data) {
+					throw new UnsupportedOperationException("Inserting through a cursor is not benchmarked");
+				}
+
+				@Override
+				public void insertAfter(T data) {
+					throw new UnsupportedOperationException("Inserting through a cursor is not benchmarked");
+				}
+			};
+		}
+
+		@Override
+		public boolean contains(Object value) {
+			return list.contains(value);
+		}
+
+		@Override
+		public int indexOf(Object value) {
+			return list.indexOf(value);
+		}
+
+		@Override
+		public boolean removeFirst(Object value) {
+			return list.remove(value);
+		}
+
+		@Override
+		public void sort(Comparator<? super T> comparator) {
+			list.sort(comparator);
+		}
+
+		@Override
+		public void clear() {
+			list.clear();
+		}
+
+		@Override
+		public int length() {
+			return list.size();
+		}
+
+		@Override
+		public boolean isArrayBacked() {
+			return list instanceof RandomAccess;
+		}
+
+	}
+
+	/**
+	 * Makes an <code>ArrayDeque</code> usable as an <code>IList</code>. A deque only works on its ends, so everything that works at an index throws an <code>UnsupportedOperationException</code>, and it is only used by the benchmarks that work on the ends.
+	 */
+	static final class JavaDeque<T> implements IList<T> {
+
+		/**
+		 * The deque that stores the data
+		 */
+		private final ArrayDeque<T> deque = new ArrayDeque<T>();
+
+		@Override
+		public void put(T data) {
+			deque.addLast(data);
+		}
+
+		@Override
+		public void push(T data) {
+			deque.addFirst(data);
+		}
+
+		@Override
+		public T take() {
+			return deque.pollLast();
+		}
+
+		@Override
+		public T pull() {
+			return deque.pollFirst();
+		}
+
+		@Override
+		public T get(int i) {
+			throw new UnsupportedOperationException("An ArrayDeque has no indexes");
+		}
+
+		@Override
+		public void set(int i, T data) {
+			throw new UnsupportedOperationException("An ArrayDeque has no indexes");
+		}
+
+		@Override
+		public void remove(int i) {
+			throw new UnsupportedOperationException("An ArrayDeque has no indexes");
+		}
+
+		@Override
+		public void insert(int i, T data) {
+			throw new UnsupportedOperationException("An ArrayDeque has no indexes");
+		}
+
+		@Override
+		public void removeAfter(int i) {
+			throw new UnsupportedOperationException("An ArrayDeque has no indexes");
+		}
+
+		@Override
+		public void removeBefore(int i) {
+			throw new UnsupportedOperationException("An ArrayDeque has no indexes");
+		}
+
+		@Override
+		public IList<T> splitAt(int i) {
+			throw new UnsupportedOperationException("An ArrayDeque has no indexes");
+		}
+
+		@Override
+		public void clear() {
+			deque.clear();
+		}
+
+		@Override
+		public int length() {
+			return deque.size();
+		}
+
+		@Override
+		public boolean isArrayBacked() {
+			return true;
+		}
+
+	}
+
+	/**
+	 * Guards a list with its own monitor, which is the simplest way to make a list thread-safe and what <code>StampedList</code> and <code>ConcurrentLinkedIList</code> are compared against
+	 */
+	static final class SynchronizedList<T> implements IList<T> {
+
+		/**
+		 * The list that stores the data
+		 */
+		private final IList<T> list;
+
+		SynchronizedList(IList<T> list) {
+			this.list = list;
+		}
+
+		@Override
+		public synchronized void put(T data) {
+			list.put(data);
+		}
+
+		@Override
+		public synchronized void push(T data) {
+			list.push(data);
+		}
+
+		@Override
+		public synchronized T take() {
+			return list.take();
+		}
+
+		@Override
+		public synchronized T pull() {
+			return list.pull();
+		}
+
+		@Override
+		public synchronized T get(int i) {
+			return list.get(i);
+		}
+
+		@Override
+		public synchronized void set(int i, T data) {
+			list.set(i, data);
+		}
+
+		@Override
+		public synchronized void remove(int i) {
+			list.remove(i);
+		}
+
+		@Override
+		public synchronized void insert(int i, T data) {
+			list.insert(i, data);
+		}
+
+		@Override
+		public synchronized void removeAfter(int i) {
+			list.removeAfter(i);
+		}
+
+		@Override
+		public synchronized void removeBefore(int i) {
+			list.removeBefore(i);
+		}
+
+		@Override
+		public synchronized IList<T> splitAt(int i) {
+			return new SynchronizedList<T>(list.splitAt(i));
+		}
+
+		@Override
+		public synchronized void clear() {
+			list.clear();
+		}
+
+		@Override
+		public synchronized int length() {
+			return list.length();
+		}
+
+		@Override
+		public boolean isArrayBacked() {
+			return list.isArrayBacked();
+		}
+
+		@Override
+		public boolean allowsOptimisticReads() {
+			return list.allowsOptimisticReads();
+		}
+
+	}
+
+}
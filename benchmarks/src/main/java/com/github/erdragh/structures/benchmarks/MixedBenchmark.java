@@ -0,0 +1,101 @@
+package com.github.erdragh.structures.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.erdragh.structures.IList;
+
+/**
+ * Measures a mix of operations like an application would do them. The given share of operations reads with <code>get</code>, the rest cycles through <code>set</code>, <code>insert</code>, <code>remove</code>, <code>put</code> and <code>pull</code>, so the list keeps its size. The operations and indexes are random, but the same in every run.
+ * @author Erdragh
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class MixedBenchmark {
+
+	private static final int GET = 0;
+	private static final int SET = 1;
+	private static final int INSERT = 2;
+	private static final int REMOVE = 3;
+	private static final int PUT = 4;
+	private static final int PULL = 5;
+
+	@Param({"SingleLinkedList", "DoubleLinkedList", "ArrayRingList", "UnrolledLinkedList", "IndexableSkipList", "OffHeapList", "MappedFileList", "ConcurrentLinkedIList", "PersistentList", "StampedList", "java.util.ArrayList", "java.util.LinkedList"})
+	public String kind;
+
+	@Param({"100", "10000", "1000000", "10000000"})
+	public int size;
+
+	/**
+	 * The share of reading operations in percent
+	 */
+	@Param({"90", "50"})
+	public int reads;
+
+	private IList<Long> list;
+	private int[] operations;
+	private int[] indexes;
+	private int next;
+
+	@Setup
+	public void setup() {
+		list = Lists.create(kind, size);
+		indexes = IndexBenchmark.indexes(size);
+		operations = new int[IndexBenchmark.INDEXES];
+		Random random = new Random(42);
+		int write = 0;
+		for (int i = 0; i < operations.length; i++) {
+			//the changes always come in the same order, so every insert is followed by a remove and every put by a pull
+			operations[i] = random.nextInt(100) < reads ? GET : SET + write++ % 5;
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		Lists.dispose(list);
+	}
+
+	@Benchmark
+	public Long mixed() {
+		int n = next++ & (IndexBenchmark.INDEXES - 1);
+		int i = indexes[n];
+		switch (operations[n]) {
+			case GET:
+				return list.get(i);
+			case SET:
+				list.set(i, Lists.VALUE);
+				return null;
+			case INSERT:
+				list.insert(i, Lists.VALUE);
+				return null;
+			case REMOVE:
+				list.remove(i);
+				return null;
+			case PUT:
+				list.put(Lists.VALUE);
+				return null;
+			default:
+				return list.pull();
+		}
+	}
+
+}
@@ -0,0 +1,98 @@
+package com.github.erdragh.structures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.erdragh.structures.BlockingIList;
+import com.github.erdragh.structures.IList;
+
+/**
+ * Measures a <code>BlockingIList</code> with a capacity as the queue between producer and consumer threads. In the <code>single</code> group the consumer pulls one element at a time, in the <code>batch</code> group it drains up to <code>batch</code> elements at once into a list of its own, which shows how much taking the lock once per batch and moving whole runs of nodes saves.
+ * The waits are timed, so no thread is left waiting for good when the others stop at the end of an iteration. The throughput of the consumers counts calls, so for the <code>batch</code> group it has to be multiplied by the number of elements per call, which is at most <code>batch</code>.
+ * @author Erdragh
+ * @version 1.0
+ */
+
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class PipelineBenchmark {
+
+	@Param({"SingleLinkedList", "DoubleLinkedList", "ArrayRingList"})
+	public String kind;
+
+	@Param({"1024"})
+	public int capacity;
+
+	@Param({"64"})
+	public int batch;
+
+	private BlockingIList<Long> queue;
+
+	/**
+	 * The list a consumer drains into, one for every thread
+	 */
+	@State(Scope.Thread)
+	public static class Target {
+
+		private IList<Long> list;
+
+		@Setup
+		public void setup(PipelineBenchmark benchmark) {
+			list = Lists.create(benchmark.kind);
+		}
+
+	}
+
+	@Setup
+	public void setup() {
+		queue = new BlockingIList<Long>(Lists.create(kind), capacity);
+	}
+
+	@Benchmark
+	@Group("single")
+	@GroupThreads(1)
+	public boolean produce() throws InterruptedException {
+		return queue.awaitPut(Lists.VALUE, 1, TimeUnit.MILLISECONDS);
+	}
+
+	@Benchmark
+	@Group("single")
+	@GroupThreads(1)
+	public Long consume() throws InterruptedException {
+		return queue.awaitPull(1, TimeUnit.MILLISECONDS);
+	}
+
+	@Benchmark
+	@Group("batch")
+	@GroupThreads(1)
+	public boolean produceBatch() throws InterruptedException {
+		return queue.awaitPut(Lists.VALUE, 1, TimeUnit.MILLISECONDS);
+	}
+
+	@Benchmark
+	@Group("batch")
+	@GroupThreads(1)
+	public int consumeBatch(Target target) throws InterruptedException {
+		int count = queue.awaitDrainTo(target.list, batch, 1, TimeUnit.MILLISECONDS);
+		target.list.clear();
+		return count;
+	}
+
+}
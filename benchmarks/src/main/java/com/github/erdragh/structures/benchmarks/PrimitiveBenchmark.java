@@ -0,0 +1,90 @@
+package com.github.erdragh.structures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.erdragh.structures.ArrayRingList;
+import com.github.erdragh.structures.LongArrayList;
+import com.github.erdragh.structures.LongChunkedList;
+import com.github.erdragh.structures.SingleLinkedList;
+
+/**
+ * Compares the lists of primitive <code>long</code>s against lists of boxed <code>Long</code>s, by building a list of distinct values and summing it up. With the GC profiler the allocated bytes per call show the memory each list needs, including the boxes.
+ * @author Erdragh
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class PrimitiveBenchmark {
+
+	@Param({"100", "10000", "1000000", "10000000"})
+	public int size;
+
+	@Benchmark
+	public long longArrayList() {
+		LongArrayList list = new LongArrayList();
+		for (int i = 0; i < size; i++) {
+			list.put(i);
+		}
+		long sum = 0;
+		for (int i = 0; i < size; i++) {
+			sum += list.getLong(i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long longChunkedList() {
+		LongChunkedList list = new LongChunkedList();
+		for (int i = 0; i < size; i++) {
+			list.put(i);
+		}
+		long sum = 0;
+		while (list.length() > 0) {
+			sum += list.pullLong();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long boxedArrayRingList() {
+		ArrayRingList<Long> list = new ArrayRingList<Long>();
+		for (int i = 0; i < size; i++) {
+			list.put((long) i);
+		}
+		long sum = 0;
+		for (Long value : list) {
+			sum += value;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long boxedSingleLinkedList() {
+		SingleLinkedList<Long> list = new SingleLinkedList<Long>();
+		for (int i = 0; i < size; i++) {
+			list.put((long) i);
+		}
+		long sum = 0;
+		for (Long value : list) {
+			sum += value;
+		}
+		return sum;
+	}
+
+}
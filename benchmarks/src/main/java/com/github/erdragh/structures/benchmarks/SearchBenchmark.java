@@ -0,0 +1,92 @@
+package com.github.erdragh.structures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.erdragh.structures.IList;
+
+/**
+ * Measures the methods that work with values: <code>contains</code> and <code>indexOf</code> with values spread evenly over the list and with a missing value, and <code>removeFirst</code>. Every element holds its own index, and a removed value is put back at the end, so the list keeps its size.
+ * @author Erdragh
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class SearchBenchmark {
+
+	@Param({"SingleLinkedList", "ArrayRingList", "HashIndexedList", "java.util.ArrayList", "java.util.LinkedList"})
+	public String kind;
+
+	@Param({"100", "10000", "1000000"})
+	public int size;
+
+	private IList<Long> list;
+	/**
+	 * The values looked for, boxed once so the benchmark does not measure boxing
+	 */
+	private Long[] values;
+	private int next;
+
+	@Setup
+	public void setup() {
+		list = Lists.create(kind);
+		for (long i = 0; i < size; i++) {
+			list.put(i);
+		}
+		int[] indexes = IndexBenchmark.indexes(size);
+		values = new Long[indexes.length];
+		for (int i = 0; i < indexes.length; i++) {
+			values[i] = (long) indexes[i];
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		Lists.dispose(list);
+	}
+
+	private Long value() {
+		return values[next++ & (IndexBenchmark.INDEXES - 1)];
+	}
+
+	@Benchmark
+	public boolean contains() {
+		return list.contains(value());
+	}
+
+	@Benchmark
+	public boolean containsMissing() {
+		return list.contains(-1L);
+	}
+
+	@Benchmark
+	public int indexOf() {
+		return list.indexOf(value());
+	}
+
+	@Benchmark
+	public IList<Long> removeFirst() {
+		Long value = value();
+		list.removeFirst(value);
+		list.put(value);
+		return list;
+	}
+
+}
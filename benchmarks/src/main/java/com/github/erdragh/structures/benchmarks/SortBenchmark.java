@@ -0,0 +1,79 @@
+package com.github.erdragh.structures.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.erdragh.structures.IList;
+
+/**
+ * Measures <code>sort</code> on random and on already sorted elements. Sorting changes the list, so every call gets a freshly filled list, which is why this is measured as single calls.
+ * @author Erdragh
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class SortBenchmark {
+
+	@Param({"SingleLinkedList", "DoubleLinkedList", "ArrayRingList", "UnrolledLinkedList", "IndexableSkipList", "PersistentList", "java.util.ArrayList", "java.util.LinkedList"})
+	public String kind;
+
+	@Param({"100", "10000", "1000000", "10000000"})
+	public int size;
+
+	@Param({"random", "sorted"})
+	public String order;
+
+	/**
+	 * The elements the list is filled with, boxed once so the benchmark does not measure boxing
+	 */
+	private Long[] values;
+
+	private IList<Long> list;
+
+	@Setup(Level.Trial)
+	public void values() {
+		values = new Long[size];
+		Random random = new Random(42);
+		for (int i = 0; i < size; i++) {
+			values[i] = "sorted".equals(order) ? (long) i : random.nextLong();
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void setup() {
+		list = Lists.create(kind);
+		list.putAll(Arrays.asList(values));
+	}
+
+	@TearDown(Level.Invocation)
+	public void tearDown() {
+		Lists.dispose(list);
+	}
+
+	@Benchmark
+	public IList<Long> sort() {
+		list.sort(null);
+		return list;
+	}
+
+}
@@ -0,0 +1,87 @@
+package com.github.erdragh.structures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.erdragh.structures.IList;
+
+/**
+ * Measures walking over a whole list with a for-each loop, with <code>forEach</code> and with a stream, and over its middle half through <code>subList</code>. This is where the memory layout shows, for example <code>UnrolledLinkedList</code> against <code>SingleLinkedList</code> once the list does not fit into the caches anymore.
+ * @author Erdragh
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class TraversalBenchmark {
+
+	@Param({"SingleLinkedList", "DoubleLinkedList", "ArrayRingList", "UnrolledLinkedList", "IndexableSkipList", "OffHeapList", "MappedFileList", "ConcurrentLinkedIList", "PersistentList", "StampedList", "java.util.ArrayList", "java.util.LinkedList"})
+	public String kind;
+
+	@Param({"100", "10000", "1000000", "10000000"})
+	public int size;
+
+	private IList<Long> list;
+
+	@Setup
+	public void setup() {
+		list = Lists.create(kind, size);
+	}
+
+	@TearDown
+	public void tearDown() {
+		Lists.dispose(list);
+	}
+
+	@Benchmark
+	public long iterator() {
+		long sum = 0;
+		for (Long value : list) {
+			sum += value;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long forEach() {
+		long[] sum = new long[1];
+		list.forEach(value -> sum[0] += value);
+		return sum[0];
+	}
+
+	@Benchmark
+	public long stream() {
+		return list.stream().mapToLong(Long::longValue).sum();
+	}
+
+	@Benchmark
+	public long subList() {
+		long sum = 0;
+		for (Long value : list.subList(size / 4, size - size / 4)) {
+			sum += value;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long parallelStream() {
+		return list.parallelStream().mapToLong(Long::longValue).sum();
+	}
+
+}
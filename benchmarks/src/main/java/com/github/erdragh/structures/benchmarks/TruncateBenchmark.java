@@ -0,0 +1,71 @@
+package com.github.erdragh.structures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.erdragh.structures.IList;
+
+/**
+ * Measures <code>removeAfter</code>, <code>removeBefore</code> and <code>removeRange</code> in the middle of a list. Each call removes half the list, so every call gets a freshly filled list, which is why this is measured as single calls.
+ * @author Erdragh
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class TruncateBenchmark {
+
+	@Param({"SingleLinkedList", "DoubleLinkedList", "ArrayRingList", "UnrolledLinkedList", "IndexableSkipList", "OffHeapList", "ConcurrentLinkedIList", "PersistentList", "StampedList", "java.util.ArrayList", "java.util.LinkedList"})
+	public String kind;
+
+	@Param({"100", "10000", "1000000", "10000000"})
+	public int size;
+
+	private IList<Long> list;
+
+	@Setup(Level.Invocation)
+	public void setup() {
+		list = Lists.create(kind, size);
+	}
+
+	@TearDown(Level.Invocation)
+	public void tearDown() {
+		Lists.dispose(list);
+	}
+
+	@Benchmark
+	public IList<Long> removeAfter() {
+		list.removeAfter(size / 2);
+		return list;
+	}
+
+	@Benchmark
+	public IList<Long> removeBefore() {
+		list.removeBefore(size / 2);
+		return list;
+	}
+
+	@Benchmark
+	public IList<Long> removeRange() {
+		list.removeRange(size / 4, size - size / 4);
+		return list;
+	}
+
+}
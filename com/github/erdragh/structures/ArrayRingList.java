@@ -0,0 +1,429 @@
+package com.github.erdragh.structures;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * An implementation of a list that stores its elements in a growable circular array. Both ends of the list can be used in constant time and every index can be accessed directly.
+ * @author Erdragh
+ * @version 1.0
+ * @see IList
+ */
+
+public class ArrayRingList<T> implements IList<T> {
+
+	/**
+	 * The capacity a list starts with if none is given. Capacities are always powers of two, so wrapping an index around the array is a simple bit mask.
+	 */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * The array the elements are stored in. The list starts at <code>head</code> and wraps around to the beginning of the array when it reaches its end.
+	 */
+	private Object[] elements;
+	/**
+	 * The position in the array where the first element of the list is stored.
+	 */
+	private int head;
+	/**
+	 * The number of elements in the list.
+	 */
+	private int size;
+
+	/**
+	 * A simple constructor creating an empty list with the default capacity
+	 */
+	public ArrayRingList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * A constructor creating an empty list that can hold the given number of elements before it has to grow
+	 * @param capacity the number of elements the list should be able to hold initially, this will be rounded up to the next power of two
+	 */
+	public ArrayRingList(int capacity) {
+		if (capacity < 0 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("Illegal capacity: " + capacity);
+		}
+		int rounded = Integer.highestOneBit(Math.max(capacity, 1) - 1) << 1;
+		elements = new Object[Math.max(rounded, 1)];
+	}
+
+	/**
+	 * Converts an index in the list to the position in the array where the element is stored.
+	 * @param i the index in the list
+	 * @return the position in the array
+	 */
+	private int position(int i) {
+		return (head + i) & (elements.length - 1);
+	}
+
+	/**
+	 * Returns the element at the given index of the list, without any bounds checks.
+	 * @param i the index in the list
+	 * @return the element stored at that index
+	 */
+	@SuppressWarnings("unchecked")
+	private T element(int i) {
+		return (T) elements[position(i)];
+	}
+
+	/**
+	 * Makes sure there is space for at least one more element. If the array is full it is doubled and the elements are copied so that the list starts at the beginning of the new array again.
+	 */
+	private void ensureSpace() {
+		ensureSpace(1);
+	}
+
+	/**
+	 * Makes sure there is space for the given number of additional elements. If the array is too small it is doubled until they fit and the elements are copied so that the list starts at the beginning of the new array again.
+	 * @param additional the number of elements that will be added
+	 */
+	private void ensureSpace(int additional) {
+		if (additional <= elements.length - size) {
+			return;
+		}
+		if (additional > (1 << 30) - size) {
+			throw new IllegalStateException("List is too large");
+		}
+		int capacity = elements.length << 1;
+		while (capacity - size < additional) {
+			capacity <<= 1;
+		}
+		Object[] grown = new Object[capacity];
+		//copies the part from head to the end of the array first, then the part that wrapped around to the beginning
+		int front = elements.length - head;
+		System.arraycopy(elements, head, grown, 0, front);
+		System.arraycopy(elements, 0, grown, front, head);
+		elements = grown;
+		head = 0;
+	}
+
+	@Override
+	public void put(T data) {
+		ensureSpace();
+		elements[position(size)] = data;
+		size++;
+	}
+
+	@Override
+	public void push(T data) {
+		ensureSpace();
+		head = (head - 1) & (elements.length - 1);
+		elements[head] = data;
+		size++;
+	}
+
+	@Override
+	public T take() {
+		if (size == 0) {
+			return null;
+		}
+		int position = position(--size);
+		@SuppressWarnings("unchecked")
+		T data = (T) elements[position];
+		//the slot is cleared so the Garbage Collector can remove the data once it is not used anymore
+		elements[position] = null;
+		return data;
+	}
+
+	@Override
+	public T pull() {
+		if (size == 0) {
+			return null;
+		}
+		@SuppressWarnings("unchecked")
+		T data = (T) elements[head];
+		elements[head] = null;
+		head = (head + 1) & (elements.length - 1);
+		size--;
+		return data;
+	}
+
+	@Override
+	public T get(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return null;
+		}
+		return element(i);
+	}
+
+	@Override
+	public void set(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == size) {
+			//the index is immediately after the end, so the data is added as a new element
+			put(data);
+		} else {
+			elements[position(i)] = data;
+		}
+	}
+
+	@Override
+	public void remove(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i < size / 2) {
+			//the removed element is closer to the start, so the elements before it are moved one up and the list starts one later
+			for (int j = i; j > 0; j--) {
+				elements[position(j)] = elements[position(j - 1)];
+			}
+			elements[head] = null;
+			head = (head + 1) & (elements.length - 1);
+		} else {
+			//the removed element is closer to the end, so the elements after it are moved one down
+			for (int j = i; j < size - 1; j++) {
+				elements[position(j)] = elements[position(j + 1)];
+			}
+			elements[position(size - 1)] = null;
+		}
+		size--;
+	}
+
+	@Override
+	public void insert(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		ensureSpace();
+		if (i < size / 2) {
+			//the new element is closer to the start, so the list starts one earlier and the elements before the index are moved one down
+			head = (head - 1) & (elements.length - 1);
+			for (int j = 0; j < i; j++) {
+				elements[position(j)] = elements[position(j + 1)];
+			}
+		} else {
+			//the new element is closer to the end, so the elements from the index on are moved one up
+			for (int j = size; j > i; j--) {
+				elements[position(j)] = elements[position(j - 1)];
+			}
+		}
+		elements[position(i)] = data;
+		size++;
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		if (i < 0 || i >= size) {
+			//Do nothing, since index i is out of bounds for the List
+			return;
+		}
+		for (int j = i + 1; j < size; j++) {
+			elements[position(j)] = null;
+		}
+		size = i + 1;
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		if (i < 0 || i >= size) {
+			//if the index is out of bounds the whole list is removed, just like in the other lists
+			clear();
+			return;
+		}
+		for (int j = 0; j < i; j++) {
+			elements[position(j)] = null;
+		}
+		head = position(i);
+		size -= i;
+	}
+
+	/**
+	 * Removes the elements in the range by moving the elements on the shorter side of it over the gap once, just like <code>remove</code> does for a single element.
+	 * @param from the index of the first element to be removed
+	 * @param to the index after the last element to be removed. If the range is not inside the list nothing is removed
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		if (from < 0 || to > size || from >= to) {
+			//Range out of bounds for the List, or empty
+			return;
+		}
+		int count = to - from;
+		if (from < size - to) {
+			//fewer elements are in front of the range, so they are moved up and the list starts later
+			for (int j = from - 1; j >= 0; j--) {
+				elements[position(j + count)] = elements[position(j)];
+			}
+			for (int j = 0; j < count; j++) {
+				elements[position(j)] = null;
+			}
+			head = position(count);
+		} else {
+			//fewer elements are behind the range, so they are moved down
+			for (int j = to; j < size; j++) {
+				elements[position(j - count)] = elements[position(j)];
+			}
+			for (int j = size - count; j < size; j++) {
+				elements[position(j)] = null;
+			}
+		}
+		size -= count;
+	}
+
+	@Override
+	public ArrayRingList<T> splitAt(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List, or there is nothing after it
+			return new ArrayRingList<T>();
+		}
+		ArrayRingList<T> tail;
+		if (i == 0) {
+			//the whole array is handed over to the new list
+			tail = new ArrayRingList<T>(0);
+			tail.elements = elements;
+			tail.head = head;
+			tail.size = size;
+			elements = new Object[DEFAULT_CAPACITY];
+			head = 0;
+			size = 0;
+			return tail;
+		}
+		tail = new ArrayRingList<T>(size - i);
+		for (int j = i; j < size; j++) {
+			tail.elements[j - i] = elements[position(j)];
+		}
+		tail.size = size - i;
+		removeAfter(i - 1);
+		return tail;
+	}
+
+	@Override
+	public void insertAll(int i, Iterable<? extends T> data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		//collects the data first, so the elements after the index only have to be moved once
+		ArrayRingList<T> added = new ArrayRingList<T>();
+		for (T element : data) {
+			added.put(element);
+		}
+		int count = added.size;
+		if (count == 0) {
+			return;
+		}
+		ensureSpace(count);
+		for (int j = size - 1; j >= i; j--) {
+			elements[position(j + count)] = elements[position(j)];
+		}
+		for (int j = 0; j < count; j++) {
+			elements[position(i + j)] = added.elements[j];
+		}
+		size += count;
+	}
+
+	@Override
+	public int indexOf(Object value) {
+		//the list is at most two ranges of the array, which are scanned without wrapping every index around
+		int front = Math.min(size, elements.length - head);
+		int position = indexOf(value, head, head + front);
+		if (position >= 0) {
+			return position - head;
+		}
+		position = indexOf(value, 0, size - front);
+		return position >= 0 ? position + front : -1;
+	}
+
+	/**
+	 * Finds the first element equal to the given value in a range of the array
+	 * @param value the value to look for
+	 * @param from the first position in the array that is checked
+	 * @param to the position after the last one that is checked
+	 * @return the position of the first equal element in the array, or <code>-1</code> if there is none
+	 */
+	private int indexOf(Object value, int from, int to) {
+		if (value == null) {
+			for (int j = from; j < to; j++) {
+				if (elements[j] == null) {
+					return j;
+				}
+			}
+		} else {
+			for (int j = from; j < to; j++) {
+				if (value.equals(elements[j])) {
+					return j;
+				}
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean removeFirst(Object value) {
+		int i = indexOf(value);
+		if (i < 0) {
+			return false;
+		}
+		remove(i);
+		return true;
+	}
+
+	/**
+	 * Removes every element equal to the given value in a single pass. The remaining elements are moved down over the gaps as the pass goes on, so every element is moved at most once instead of once per removed element.
+	 * @param value the value to be removed
+	 * @return the number of removed elements
+	 */
+	@Override
+	public int removeAll(Object value) {
+		int kept = 0;
+		for (int j = 0; j < size; j++) {
+			Object element = elements[position(j)];
+			if (!Objects.equals(element, value)) {
+				elements[position(kept++)] = element;
+			}
+		}
+		for (int j = kept; j < size; j++) {
+			elements[position(j)] = null;
+		}
+		int removed = size - kept;
+		size = kept;
+		return removed;
+	}
+
+	/**
+	 * Sorts the list with <code>Arrays.parallelSort</code>, which splits large lists up between the workers of the common fork-join pool and merges the sorted parts. If the elements wrap around the end of the array, they are moved to the beginning of a new array first, so they can be sorted as one range.
+	 * @param comparator decides the order of the elements, or <code>null</code> to use their natural order
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void sort(Comparator<? super T> comparator) {
+		if (head + size > elements.length) {
+			Object[] unwrapped = new Object[elements.length];
+			for (int j = 0; j < size; j++) {
+				unwrapped[j] = elements[position(j)];
+			}
+			elements = unwrapped;
+			head = 0;
+		}
+		Arrays.parallelSort((T[]) elements, head, head + size, comparator);
+	}
+
+	@Override
+	public void clear() {
+		for (int j = 0; j < size; j++) {
+			elements[position(j)] = null;
+		}
+		head = 0;
+		size = 0;
+	}
+
+	@Override
+	public boolean isArrayBacked() {
+		return true;
+	}
+
+	@Override
+	public int length() {
+		return size;
+	}
+
+}
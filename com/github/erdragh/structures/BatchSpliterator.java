@@ -0,0 +1,98 @@
+package com.github.erdragh.structures;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator for lists that can only be walked from the front. Splitting copies the next batch of elements into an array, which can then be split evenly again.
+ * The batch size is chosen once from the length of the list, so that every worker of the common pool gets several batches of the same size instead of the first batches being tiny and the last one holding most of the list.
+ * @author Erdragh
+ * @version 1.0
+ * @see IList#spliterator()
+ */
+class BatchSpliterator<T> implements Spliterator<T> {
+
+	/**
+	 * The smallest batch that is worth copying into an array
+	 */
+	private static final int MIN_BATCH = 128;
+	/**
+	 * The largest batch, so a single split never allocates a huge array
+	 */
+	private static final int MAX_BATCH = 1 << 24;
+	/**
+	 * The number of batches every worker should get, so workers that finish early can take over batches from slower ones
+	 */
+	private static final int BATCHES_PER_WORKER = 4;
+
+	/**
+	 * Walks through the elements of the list
+	 */
+	private final Iterator<T> iterator;
+	/**
+	 * The number of elements that have not been passed on yet
+	 */
+	private int remaining;
+	/**
+	 * The number of elements that are moved into an array on every split
+	 */
+	private final int batch;
+
+	/**
+	 * Creates a spliterator over the remaining elements of an iterator
+	 * @param iterator the iterator walking through the list, the list must not be changed while the spliterator is used
+	 * @param size the number of elements the iterator will return
+	 */
+	BatchSpliterator(Iterator<T> iterator, int size) {
+		this.iterator = iterator;
+		this.remaining = size;
+		int workers = Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+		long perBatch = (size + (long) workers * BATCHES_PER_WORKER - 1) / ((long) workers * BATCHES_PER_WORKER);
+		this.batch = (int) Math.max(MIN_BATCH, Math.min(MAX_BATCH, perBatch));
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if (remaining <= 0) {
+			return false;
+		}
+		remaining--;
+		action.accept(iterator.next());
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		for (; remaining > 0; remaining--) {
+			action.accept(iterator.next());
+		}
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		if (remaining <= 1) {
+			return null;
+		}
+		//near the end the rest is halved instead, so this spliterator never gives away everything
+		int count = Math.min(batch, remaining / 2);
+		Object[] elements = new Object[count];
+		for (int j = 0; j < count; j++) {
+			elements[j] = iterator.next();
+		}
+		remaining -= count;
+		return Spliterators.spliterator(elements, 0, count, ORDERED);
+	}
+
+	@Override
+	public long estimateSize() {
+		return remaining;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | SIZED | SUBSIZED;
+	}
+}
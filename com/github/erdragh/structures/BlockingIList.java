@@ -0,0 +1,653 @@
+package com.github.erdragh.structures;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A decorator that makes any list usable as a hand-off queue between threads. Every method runs under a single lock, and threads can wait for an element to arrive with <code>awaitPull</code> and <code>awaitTake</code>, or for room to put one with <code>awaitPut</code>, instead of polling the list.
+ * A list can be given a capacity. The methods of <code>IList</code> never wait, so they throw an <code>IllegalStateException</code> if an element does not fit anymore, while <code>awaitPut</code> waits until a consumer has made room, which slows a producer down to the speed of its consumers.
+ * <p>
+ * <code>drainTo</code> moves up to a given number of elements to another list while holding the lock once. The list is split behind the moved elements and the front part is appended to the other list, so lists that link their nodes hand over the whole run of nodes at once, and lists of the same kind take them over without copying. Lists that report with <code>isArrayBacked</code> that they store their elements in an array would copy the remaining elements when they are split, so their elements are moved one by one instead, which still only takes the lock once.
+ * <p>
+ * Waiting threads are parked through a <code>ReentrantLock</code> and its conditions rather than <code>synchronized</code> and <code>wait</code>, so a virtual thread that waits does not pin the platform thread carrying it, and thousands of waiting consumers cost little more than their own stacks.
+ * <p>
+ * Like with <code>StampedList</code>, cursors, spliterators and views go through <code>get</code> and <code>length</code> by index, taking the lock for every element.
+ * @author Erdragh
+ * @version 1.0
+ * @see ReentrantLock
+ */
+
+public class BlockingIList<T> implements IList<T> {
+
+	/**
+	 * The list that actually stores the data
+	 */
+	private final IList<T> list;
+	/**
+	 * The maximum number of elements in the list, <code>Integer.MAX_VALUE</code> if there is none
+	 */
+	private final int capacity;
+	/**
+	 * The lock guarding the list
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+	/**
+	 * Signalled when elements were added, so threads waiting for one can go on
+	 */
+	private final Condition notEmpty = lock.newCondition();
+	/**
+	 * Signalled when elements were removed, so threads waiting for room can go on
+	 */
+	private final Condition notFull = lock.newCondition();
+
+	/**
+	 * Creates a thread-safe queue without a capacity around the given list. The list must not be used directly anymore afterwards.
+	 * @param list the list that stores the data, for example a <code>SingleLinkedList</code> or a <code>DoubleLinkedList</code>
+	 */
+	public BlockingIList(IList<T> list) {
+		this(list, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a thread-safe queue with a capacity around the given list. The list must not be used directly anymore afterwards.
+	 * @param list the list that stores the data, for example a <code>SingleLinkedList</code> or a <code>DoubleLinkedList</code>
+	 * @param capacity the maximum number of elements in the list
+	 */
+	public BlockingIList(IList<T> list, int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("The capacity has to be positive: " + capacity);
+		}
+		if (list.length() > capacity) {
+			throw new IllegalArgumentException("The list holds more than " + capacity + " elements");
+		}
+		this.list = list;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Gives back the maximum number of elements in the list
+	 * @return the capacity, or <code>Integer.MAX_VALUE</code> if the list has none
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Makes sure the given number of elements still fit into the list. The lock has to be held.
+	 * @param count the number of elements that will be added
+	 * @throws IllegalStateException if they do not fit
+	 */
+	private void checkRoom(int count) {
+		if (count > capacity - list.length()) {
+			throw new IllegalStateException("The list is full");
+		}
+	}
+
+	/**
+	 * Wakes up the threads that can go on after the length of the list changed. The lock has to be held.
+	 * @param before the length of the list before the change
+	 */
+	private void changed(int before) {
+		int after = list.length();
+		if (after == before + 1) {
+			notEmpty.signal();
+		} else if (after > before) {
+			notEmpty.signalAll();
+		} else if (after == before - 1) {
+			notFull.signal();
+		} else if (after < before) {
+			notFull.signalAll();
+		}
+	}
+
+	/**
+	 * Puts the data at the end of the list, waiting until there is room for it
+	 * @param data the data to be used
+	 * @throws InterruptedException if the thread is interrupted while it waits
+	 */
+	public void awaitPut(T data) throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			while (list.length() >= capacity) {
+				notFull.await();
+			}
+			list.put(data);
+			notEmpty.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Puts the data at the end of the list, waiting at most the given time until there is room for it
+	 * @param data the data to be used
+	 * @param timeout the longest time to wait
+	 * @param unit the unit of the timeout
+	 * @return <code>true</code> if the data was put, <code>false</code> if there was no room before the time ran out
+	 * @throws InterruptedException if the thread is interrupted while it waits
+	 */
+	public boolean awaitPut(T data, long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+		lock.lockInterruptibly();
+		try {
+			while (list.length() >= capacity) {
+				if (nanos <= 0) {
+					return false;
+				}
+				nanos = notFull.awaitNanos(nanos);
+			}
+			list.put(data);
+			notEmpty.signal();
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gives back the data of the first element and deletes the element, waiting until there is one
+	 * @return the data element of the list's first element
+	 * @throws InterruptedException if the thread is interrupted while it waits
+	 */
+	public T awaitPull() throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			while (list.length() == 0) {
+				notEmpty.await();
+			}
+			T data = list.pull();
+			notFull.signal();
+			return data;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gives back the data of the first element and deletes the element, waiting at most the given time until there is one
+	 * @param timeout the longest time to wait
+	 * @param unit the unit of the timeout
+	 * @return the data element of the list's first element, or <code>null</code> if the list was still empty when the time ran out
+	 * @throws InterruptedException if the thread is interrupted while it waits
+	 */
+	public T awaitPull(long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+		lock.lockInterruptibly();
+		try {
+			while (list.length() == 0) {
+				if (nanos <= 0) {
+					return null;
+				}
+				nanos = notEmpty.awaitNanos(nanos);
+			}
+			T data = list.pull();
+			notFull.signal();
+			return data;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gives back the data at the end of the list and deletes the element, waiting until there is one
+	 * @return the data element of the last list element
+	 * @throws InterruptedException if the thread is interrupted while it waits
+	 */
+	public T awaitTake() throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			while (list.length() == 0) {
+				notEmpty.await();
+			}
+			T data = list.take();
+			notFull.signal();
+			return data;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gives back the data at the end of the list and deletes the element, waiting at most the given time until there is one
+	 * @param timeout the longest time to wait
+	 * @param unit the unit of the timeout
+	 * @return the data element of the last list element, or <code>null</code> if the list was still empty when the time ran out
+	 * @throws InterruptedException if the thread is interrupted while it waits
+	 */
+	public T awaitTake(long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+		lock.lockInterruptibly();
+		try {
+			while (list.length() == 0) {
+				if (nanos <= 0) {
+					return null;
+				}
+				nanos = notEmpty.awaitNanos(nanos);
+			}
+			T data = list.take();
+			notFull.signal();
+			return data;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Moves all elements to the end of the other list without waiting
+	 * @param target the list the elements are appended to
+	 * @return the number of moved elements
+	 */
+	public int drainTo(IList<? super T> target) {
+		return drainTo(target, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Moves up to the given number of elements from the beginning of this list to the end of the other list, without waiting. The lock is only taken once for all of them.
+	 * @param target the list the elements are appended to
+	 * @param max the maximum number of elements to move
+	 * @return the number of moved elements
+	 */
+	public int drainTo(IList<? super T> target, int max) {
+		checkTarget(target);
+		lock.lock();
+		try {
+			return drain(target, max);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Moves up to the given number of elements from the beginning of this list to the end of the other list, waiting until there is at least one
+	 * @param target the list the elements are appended to
+	 * @param max the maximum number of elements to move
+	 * @return the number of moved elements
+	 * @throws InterruptedException if the thread is interrupted while it waits
+	 */
+	public int awaitDrainTo(IList<? super T> target, int max) throws InterruptedException {
+		checkTarget(target);
+		lock.lockInterruptibly();
+		try {
+			while (list.length() == 0) {
+				notEmpty.await();
+			}
+			return drain(target, max);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Moves up to the given number of elements from the beginning of this list to the end of the other list, waiting at most the given time until there is at least one
+	 * @param target the list the elements are appended to
+	 * @param max the maximum number of elements to move
+	 * @param timeout the longest time to wait
+	 * @param unit the unit of the timeout
+	 * @return the number of moved elements, which is <code>0</code> if the list was still empty when the time ran out
+	 * @throws InterruptedException if the thread is interrupted while it waits
+	 */
+	public int awaitDrainTo(IList<? super T> target, int max, long timeout, TimeUnit unit) throws InterruptedException {
+		checkTarget(target);
+		long nanos = unit.toNanos(timeout);
+		lock.lockInterruptibly();
+		try {
+			while (list.length() == 0) {
+				if (nanos <= 0) {
+					return 0;
+				}
+				nanos = notEmpty.awaitNanos(nanos);
+			}
+			return drain(target, max);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Makes sure elements can be drained into the given list
+	 * @param target the list the elements should be appended to
+	 */
+	private void checkTarget(IList<?> target) {
+		if (target == this) {
+			throw new IllegalArgumentException("A list cannot be drained into itself");
+		}
+	}
+
+	/**
+	 * Moves up to the given number of elements from the beginning of this list to the end of the other list. The lock has to be held.
+	 * @param target the list the elements are appended to
+	 * @param max the maximum number of elements to move
+	 * @return the number of moved elements
+	 */
+	private int drain(IList<? super T> target, int max) {
+		int length = list.length();
+		int count = Math.min(max, length);
+		if (count <= 0) {
+			return 0;
+		}
+		try {
+			if (count == length) {
+				target.appendList(list);
+			} else if (list.isArrayBacked()) {
+				//lists that store their elements in an array would copy all remaining elements when they are split, so only the moved ones are copied instead
+				for (int i = 0; i < count; i++) {
+					//the element is only removed once the target took it, so nothing is lost if the target is full
+					target.put(list.get(0));
+					list.pull();
+				}
+			} else {
+				//the elements behind the moved ones are split off, so the list itself only holds the moved ones and can be appended as a whole
+				IList<T> rest = list.splitAt(count);
+				try {
+					target.appendList(list);
+				} finally {
+					//if the target refused the elements, for example because it is full, they are put back in front of the rest
+					list.appendList(rest);
+				}
+			}
+		} finally {
+			//even if the target refused some elements, the ones moved before have made room
+			changed(length);
+		}
+		return count;
+	}
+
+	@Override
+	public void put(T data) {
+		lock.lock();
+		try {
+			checkRoom(1);
+			list.put(data);
+			notEmpty.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void push(T data) {
+		lock.lock();
+		try {
+			checkRoom(1);
+			list.push(data);
+			notEmpty.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public T take() {
+		lock.lock();
+		try {
+			int before = list.length();
+			T data = list.take();
+			changed(before);
+			return data;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public T pull() {
+		lock.lock();
+		try {
+			int before = list.length();
+			T data = list.pull();
+			changed(before);
+			return data;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public T get(int i) {
+		lock.lock();
+		try {
+			return list.get(i);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void set(int i, T data) {
+		lock.lock();
+		try {
+			int before = list.length();
+			if (i == before) {
+				//setting right after the end adds an element
+				checkRoom(1);
+			}
+			list.set(i, data);
+			changed(before);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void remove(int i) {
+		lock.lock();
+		try {
+			int before = list.length();
+			list.remove(i);
+			changed(before);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void insert(int i, T data) {
+		lock.lock();
+		try {
+			int before = list.length();
+			if (i < 0 || i > before) {
+				//Index out of bounds for the List
+				return;
+			}
+			checkRoom(1);
+			list.insert(i, data);
+			changed(before);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		lock.lock();
+		try {
+			int before = list.length();
+			list.removeAfter(i);
+			changed(before);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		lock.lock();
+		try {
+			int before = list.length();
+			list.removeBefore(i);
+			changed(before);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void removeRange(int from, int to) {
+		lock.lock();
+		try {
+			int before = list.length();
+			list.removeRange(from, to);
+			changed(before);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public BlockingIList<T> splitAt(int i) {
+		lock.lock();
+		try {
+			int before = list.length();
+			BlockingIList<T> split = new BlockingIList<T>(list.splitAt(i), capacity);
+			changed(before);
+			return split;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void insertAll(int i, Iterable<? extends T> data) {
+		lock.lock();
+		try {
+			int before = list.length();
+			if (i < 0 || i > before) {
+				//Index out of bounds for the List
+				return;
+			}
+			if (data == this) {
+				//the list itself is given as data, which the list below cannot recognize anymore
+				data = list;
+			}
+			if (capacity != Integer.MAX_VALUE) {
+				//the data is collected first, so nothing is inserted if it does not fit
+				ArrayRingList<T> copy = new ArrayRingList<T>();
+				copy.putAll(data);
+				checkRoom(copy.length());
+				data = copy;
+			}
+			list.insertAll(i, data);
+			changed(before);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void appendList(IList<? extends T> other) {
+		if (other == this) {
+			throw new IllegalArgumentException("A list cannot be appended to itself");
+		}
+		lock.lock();
+		try {
+			int before = list.length();
+			checkRoom(other.length());
+			list.appendList(other);
+			changed(before);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean contains(Object value) {
+		lock.lock();
+		try {
+			return list.contains(value);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public int indexOf(Object value) {
+		lock.lock();
+		try {
+			return list.indexOf(value);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean removeFirst(Object value) {
+		lock.lock();
+		try {
+			int before = list.length();
+			boolean removed = list.removeFirst(value);
+			changed(before);
+			return removed;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public int removeAll(Object value) {
+		lock.lock();
+		try {
+			int before = list.length();
+			int removed = list.removeAll(value);
+			changed(before);
+			return removed;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void sort(Comparator<? super T> comparator) {
+		lock.lock();
+		try {
+			list.sort(comparator);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void forEach(Consumer<? super T> action) {
+		lock.lock();
+		try {
+			list.forEach(action);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		lock.lock();
+		try {
+			int before = list.length();
+			list.clear();
+			changed(before);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public int length() {
+		lock.lock();
+		try {
+			return list.length();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean isArrayBacked() {
+		return list.isArrayBacked();
+	}
+
+	@Override
+	public boolean allowsOptimisticReads() {
+		return list.allowsOptimisticReads();
+	}
+
+}
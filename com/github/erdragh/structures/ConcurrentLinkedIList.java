@@ -0,0 +1,628 @@
+package com.github.erdragh.structures;
+
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe single linked list that never blocks. Changes are made with compare-and-set on the links between nodes, so any number of threads can put, push, pull and take at the same time without a lock.
+ * A node is removed in two steps: first the link to its next node is marked, which removes it logically and freezes its link so nothing can be inserted after it anymore, then it is unlinked from its previous node. Every thread that comes across a marked node helps to unlink it.
+ * <p>
+ * <code>put</code>, <code>push</code> and <code>pull</code> are lock-free and do not walk the list. <code>take</code> is lock-free too, but has to walk to the end, since a single linked list does not know the node before the last one.
+ * <p>
+ * All other methods are weakly consistent: they see the list as it is while they walk it, which is not a snapshot. An index refers to the position an element had when the walk reached it, so when other threads change the list at the same time, <code>get</code>, <code>set</code>, <code>insert</code> and <code>remove</code> may act on an element that has moved away from that index since. <code>length</code> is only exact while no other thread changes the list. <code>removeAfter</code>, <code>removeBefore</code>, <code>removeRange</code>, <code>splitAt</code> and <code>clear</code> remove elements one at a time and do not remove elements that were added while they run. <code>putAll</code> puts its elements one at a time, and <code>insertAll</code> and <code>pushAll</code> link each new node after the one inserted before it, so other threads may see only part of the elements at first, but none of them are lost.
+ * @author Erdragh
+ * @version 1.0
+ * @see SingleLinkedList
+ */
+
+public class ConcurrentLinkedIList<T> implements IList<T> {
+
+	/**
+	 * The node before the first element. It stores no data and is never removed, so there is always a node to link new first elements to.
+	 */
+	private final Node<T> head = new Node<T>(null, null);
+	/**
+	 * The node after the last element, just like the <code>EndNode</code> of <code>SingleLinkedList</code>. It stores no data and its link is always <code>null</code>.
+	 */
+	private final Node<T> end = new Node<T>(null, null);
+	/**
+	 * A node at or near the end of the list, so putting does not have to walk the whole list. It may lag behind or point to a removed node, in which case the walk starts at the head instead.
+	 */
+	private volatile Node<T> tail = head;
+	/**
+	 * The number of elements, counted in cells so that threads changing the list do not compete for a single counter
+	 */
+	private final LongAdder size = new LongAdder();
+
+	/**
+	 * Creates an empty list
+	 */
+	public ConcurrentLinkedIList() {
+		head.next.set(end, false);
+	}
+
+	/**
+	 * A node of the list structure. The mark on its link to the next node tells whether the node itself has been removed.
+	 */
+	private static class Node<T> {
+		/**
+		 * The data element stored in the node
+		 */
+		private volatile T data;
+		/**
+		 * The next node and whether this node has been removed
+		 */
+		private final AtomicMarkableReference<Node<T>> next;
+
+		/**
+		 * A simple constructor for creating a new node for data
+		 * @param next the node that will come after the one created
+		 * @param data the data stored in the node
+		 */
+		public Node(Node<T> next, T data) {
+			this.next = new AtomicMarkableReference<Node<T>>(next, false);
+			this.data = data;
+		}
+
+		/**
+		 * Tells whether the node has been removed from the list
+		 * @return <code>true</code> if the node is logically removed
+		 */
+		public boolean isRemoved() {
+			return next.isMarked();
+		}
+	}
+
+	/**
+	 * Finds the first node after the given one that has not been removed, and unlinks every removed node in between.
+	 * @param pred the node to start from
+	 * @param marked a holder for reading a link and its mark at once
+	 * @return the first node after <code>pred</code> that is still in the list, which may be the end node, or <code>null</code> if <code>pred</code> itself has been removed
+	 */
+	private Node<T> successor(Node<T> pred, boolean[] marked) {
+		Node<T> current = pred.next.get(marked);
+		while (true) {
+			if (marked[0]) {
+				return null;
+			}
+			if (current == end) {
+				return end;
+			}
+			Node<T> next = current.next.get(marked);
+			if (!marked[0]) {
+				return current;
+			}
+			//the node has been removed, so it is unlinked on the way
+			if (pred.next.compareAndSet(current, next, false, false)) {
+				current = next;
+				marked[0] = false;
+			} else {
+				current = pred.next.get(marked);
+			}
+		}
+	}
+
+	/**
+	 * Walks to the node before the given index.
+	 * @param i the index, at least 0
+	 * @param marked a holder for reading a link and its mark at once
+	 * @return the node before the index, which is the head for index 0, or <code>null</code> if the list is shorter than the index
+	 */
+	private Node<T> predecessor(int i, boolean[] marked) {
+		restart: while (true) {
+			Node<T> pred = head;
+			for (int current = 0; current < i; current++) {
+				Node<T> node = successor(pred, marked);
+				if (node == null) {
+					//the node we were standing on has been removed, so the position is lost
+					continue restart;
+				}
+				if (node == end) {
+					return null;
+				}
+				pred = node;
+			}
+			return pred;
+		}
+	}
+
+	/**
+	 * Removes a node from the list by marking its link and then unlinking it.
+	 * @param pred the node before the one to be removed
+	 * @param node the node to be removed
+	 * @param marked a holder for reading a link and its mark at once
+	 * @return <code>true</code> if this thread removed the node, <code>false</code> if it has been removed by another thread already
+	 */
+	private boolean unlink(Node<T> pred, Node<T> node, boolean[] marked) {
+		while (true) {
+			Node<T> next = node.next.get(marked);
+			if (marked[0]) {
+				return false;
+			}
+			if (node.next.compareAndSet(next, next, false, true)) {
+				//if this fails another thread has changed the previous node and will unlink the node while passing it
+				pred.next.compareAndSet(node, next, false, false);
+				size.decrement();
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Finds the first node after the given one that has not been removed, without changing the list.
+	 * @param node the node to start from, which may have been removed itself
+	 * @return the next node that is still in the list, or the end node
+	 */
+	private Node<T> live(Node<T> node) {
+		Node<T> next = node.next.getReference();
+		while (next != end && next.isRemoved()) {
+			next = next.next.getReference();
+		}
+		return next;
+	}
+
+	@Override
+	public void put(T data) {
+		Node<T> node = new Node<T>(end, data);
+		boolean[] marked = new boolean[1];
+		Node<T> pred = tail;
+		while (true) {
+			Node<T> next = successor(pred, marked);
+			if (next == null) {
+				//the node the walk started at has been removed, so it starts at the head again
+				pred = head;
+			} else if (next != end) {
+				pred = next;
+			} else if (pred.next.compareAndSet(end, node, false, false)) {
+				tail = node;
+				size.increment();
+				return;
+			}
+		}
+	}
+
+	@Override
+	public void push(T data) {
+		boolean[] marked = new boolean[1];
+		while (true) {
+			Node<T> first = successor(head, marked);
+			Node<T> node = new Node<T>(first, data);
+			if (head.next.compareAndSet(first, node, false, false)) {
+				size.increment();
+				return;
+			}
+		}
+	}
+
+	@Override
+	public T take() {
+		boolean[] marked = new boolean[1];
+		restart: while (true) {
+			Node<T> pred = head;
+			Node<T> node = successor(head, marked);
+			if (node == end) {
+				return null;
+			}
+			while (true) {
+				Node<T> next = successor(node, marked);
+				if (next == null) {
+					continue restart;
+				}
+				if (next == end) {
+					break;
+				}
+				pred = node;
+				node = next;
+			}
+			T data = node.data;
+			if (unlink(pred, node, marked)) {
+				tail = pred;
+				return data;
+			}
+		}
+	}
+
+	@Override
+	public T pull() {
+		boolean[] marked = new boolean[1];
+		while (true) {
+			Node<T> first = successor(head, marked);
+			if (first == end) {
+				return null;
+			}
+			T data = first.data;
+			if (unlink(head, first, marked)) {
+				return data;
+			}
+		}
+	}
+
+	@Override
+	public T get(int i) {
+		if (i < 0) {
+			return null;
+		}
+		int current = 0;
+		for (Node<T> node = live(head); node != end; node = live(node)) {
+			if (current++ == i) {
+				return node.data;
+			}
+		}
+		//Index out of bounds for the List
+		return null;
+	}
+
+	@Override
+	public void set(int i, T data) {
+		if (i < 0) {
+			return;
+		}
+		int current = 0;
+		for (Node<T> node = live(head); node != end; node = live(node)) {
+			if (current++ == i) {
+				node.data = data;
+				return;
+			}
+		}
+		if (current == i) {
+			//the index is immediately after the end, so the data is added as a new element
+			put(data);
+		}
+	}
+
+	@Override
+	public void remove(int i) {
+		if (i < 0) {
+			return;
+		}
+		boolean[] marked = new boolean[1];
+		while (true) {
+			Node<T> pred = predecessor(i, marked);
+			if (pred == null) {
+				//Index out of bounds for the List
+				return;
+			}
+			Node<T> node = successor(pred, marked);
+			if (node == end) {
+				return;
+			}
+			if (node != null && unlink(pred, node, marked)) {
+				return;
+			}
+		}
+	}
+
+	@Override
+	public void insert(int i, T data) {
+		if (i < 0) {
+			return;
+		}
+		boolean[] marked = new boolean[1];
+		while (true) {
+			Node<T> pred = predecessor(i, marked);
+			if (pred == null) {
+				//Index out of bounds for the List
+				return;
+			}
+			Node<T> next = successor(pred, marked);
+			if (next == null) {
+				continue;
+			}
+			Node<T> node = new Node<T>(next, data);
+			if (pred.next.compareAndSet(next, node, false, false)) {
+				if (next == end) {
+					tail = node;
+				}
+				size.increment();
+				return;
+			}
+		}
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		if (i < 0) {
+			return;
+		}
+		boolean[] marked = new boolean[1];
+		Node<T> kept = predecessor(i + 1, marked);
+		if (kept == null) {
+			//Do nothing, since index i is out of bounds for the List
+			return;
+		}
+		//only as many elements are removed as there were when this started, so elements put in the meantime can survive
+		for (int budget = length() - i - 1; budget > 0; budget--) {
+			Node<T> node = successor(kept, marked);
+			if (node == null || node == end) {
+				return;
+			}
+			unlink(kept, node, marked);
+		}
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		int length = length();
+		if (i < 0 || i >= length) {
+			//if the index is out of bounds the whole list is removed, just like in the other lists
+			clear();
+			return;
+		}
+		for (int j = 0; j < i; j++) {
+			pull();
+		}
+	}
+
+	@Override
+	public void removeRange(int from, int to) {
+		if (from < 0 || to > length() || from >= to) {
+			//Range out of bounds for the List, or empty
+			return;
+		}
+		boolean[] marked = new boolean[1];
+		Node<T> kept = predecessor(from, marked);
+		if (kept == null) {
+			//Range out of bounds for the List
+			return;
+		}
+		//the elements following the kept node are removed one at a time, each one from where the last one was
+		for (int budget = to - from; budget > 0; budget--) {
+			Node<T> node = successor(kept, marked);
+			if (node == null || node == end) {
+				return;
+			}
+			unlink(kept, node, marked);
+		}
+	}
+
+	@Override
+	public ConcurrentLinkedIList<T> splitAt(int i) {
+		ConcurrentLinkedIList<T> split = new ConcurrentLinkedIList<T>();
+		if (i < 0) {
+			return split;
+		}
+		boolean[] marked = new boolean[1];
+		Node<T> kept = predecessor(i, marked);
+		//the elements following the kept node are moved one at a time, each one from where the last one was
+		for (int budget = length() - i; budget > 0 && kept != null; ) {
+			Node<T> node = successor(kept, marked);
+			if (node == null) {
+				//the kept node has been removed by another thread, so the position has to be found again
+				kept = predecessor(i, marked);
+				continue;
+			}
+			if (node == end) {
+				return split;
+			}
+			//only the thread that removed the node moves its data, so no element ends up in both lists
+			if (unlink(kept, node, marked)) {
+				split.put(node.data);
+				budget--;
+			}
+		}
+		return split;
+	}
+
+	/**
+	 * Puts all given data elements at the end of the list, one <code>put</code> after another, so every element is linked at the current end even while other threads change the list
+	 * @param data the data to be used
+	 */
+	@Override
+	public void putAll(Iterable<? extends T> data) {
+		if (data == this) {
+			//the list would grow while it is read, so it is copied first
+			ArrayRingList<T> copy = new ArrayRingList<T>();
+			copy.putAll(this);
+			data = copy;
+		}
+		for (T element : data) {
+			put(element);
+		}
+	}
+
+	/**
+	 * Inserts all given data elements at the specified index. The node before the index is only looked up once, every new node is then linked after the one inserted before it. Only if that node is removed by another thread in the meantime, the position is looked up again.
+	 * @param i the index where the first element is inserted. If this is out of bounds nothing is inserted
+	 * @param data the data to be inserted
+	 */
+	@Override
+	public void insertAll(int i, Iterable<? extends T> data) {
+		if (i < 0) {
+			return;
+		}
+		if (data == this) {
+			//the list would grow while it is read, so it is copied first
+			ArrayRingList<T> copy = new ArrayRingList<T>();
+			copy.putAll(this);
+			data = copy;
+		}
+		boolean[] marked = new boolean[1];
+		Node<T> pred = predecessor(i, marked);
+		if (pred == null) {
+			//Index out of bounds for the List
+			return;
+		}
+		for (T element : data) {
+			while (true) {
+				Node<T> next = pred == null ? null : successor(pred, marked);
+				if (next == null) {
+					//the node before the position has been removed, so the position is looked up again behind the elements inserted so far, or at the end if the list has become shorter than that
+					pred = predecessor(Math.min(i, length()), marked);
+					continue;
+				}
+				Node<T> node = new Node<T>(next, element);
+				if (pred.next.compareAndSet(next, node, false, false)) {
+					if (next == end) {
+						tail = node;
+					}
+					size.increment();
+					pred = node;
+					i++;
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Puts all given data elements at the beginning of the list, linking every new node after the one pushed before it
+	 * @param data the data to be used
+	 */
+	@Override
+	public void pushAll(Iterable<? extends T> data) {
+		insertAll(0, data);
+	}
+
+	@Override
+	public void appendList(IList<? extends T> other) {
+		if (other == this) {
+			throw new IllegalArgumentException("A list cannot be appended to itself");
+		}
+		putAll(other);
+		other.clear();
+	}
+
+	@Override
+	public void clear() {
+		for (int budget = length(); budget > 0; budget--) {
+			pull();
+		}
+	}
+
+	@Override
+	public int length() {
+		return (int) Math.max(0, Math.min(Integer.MAX_VALUE, size.sum()));
+	}
+
+	@Override
+	public ICursor<T> cursor() {
+		return new NodeCursor();
+	}
+
+	@Override
+	public Spliterator<T> spliterator() {
+		//the length can change while the list is walked, so it is not reported
+		return Spliterators.spliteratorUnknownSize(cursor(), Spliterator.ORDERED | Spliterator.CONCURRENT);
+	}
+
+	/**
+	 * A weakly consistent cursor following the nodes of the list. It never fails because of other threads changing the list, it simply sees the nodes that are in the list when it reaches them.
+	 * Removing through the cursor only marks the node, it is unlinked by the next thread that walks past it. Inserting before the element the cursor is on has to find the node before it, which means walking from the head.
+	 * @see ICursor
+	 */
+	private class NodeCursor implements ICursor<T> {
+		/**
+		 * The node the cursor is on, or <code>null</code> if it is not on an element
+		 */
+		private Node<T> current;
+		/**
+		 * The last node the cursor was on, the search for the next node starts here
+		 */
+		private Node<T> passed = head;
+		/**
+		 * The node the next call to <code>next</code> moves to, or <code>null</code> if it has not been looked up yet
+		 */
+		private Node<T> upcoming;
+
+		@Override
+		public boolean hasNext() {
+			if (upcoming == null) {
+				upcoming = live(passed);
+			}
+			return upcoming != end;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			current = upcoming;
+			passed = current;
+			upcoming = null;
+			return current.data;
+		}
+
+		@Override
+		public void set(T data) {
+			checkCurrent();
+			current.data = data;
+		}
+
+		@Override
+		public void remove() {
+			checkCurrent();
+			boolean[] marked = new boolean[1];
+			while (true) {
+				Node<T> next = current.next.get(marked);
+				if (marked[0]) {
+					//another thread removed it already
+					break;
+				}
+				if (current.next.compareAndSet(next, next, false, true)) {
+					size.decrement();
+					break;
+				}
+			}
+			current = null;
+			upcoming = null;
+		}
+
+		@Override
+		public void insertBefore(T data) {
+			checkCurrent();
+			boolean[] marked = new boolean[1];
+			restart: while (true) {
+				Node<T> pred = head;
+				Node<T> node;
+				while ((node = successor(pred, marked)) != current) {
+					if (node == null) {
+						continue restart;
+					}
+					if (node == end) {
+						throw new IllegalStateException("The element was removed by another thread");
+					}
+					pred = node;
+				}
+				if (pred.next.compareAndSet(current, new Node<T>(current, data), false, false)) {
+					size.increment();
+					return;
+				}
+			}
+		}
+
+		@Override
+		public void insertAfter(T data) {
+			checkCurrent();
+			boolean[] marked = new boolean[1];
+			while (true) {
+				Node<T> next = current.next.get(marked);
+				if (marked[0]) {
+					throw new IllegalStateException("The element was removed by another thread");
+				}
+				Node<T> node = new Node<T>(next, data);
+				if (current.next.compareAndSet(next, node, false, false)) {
+					if (next == end) {
+						tail = node;
+					}
+					size.increment();
+					upcoming = null;
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Makes sure the cursor is on an element
+		 */
+		private void checkCurrent() {
+			if (current == null) {
+				throw new IllegalStateException("The cursor is not on an element");
+			}
+		}
+	}
+
+}
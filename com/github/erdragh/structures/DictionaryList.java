@@ -0,0 +1,373 @@
+package com.github.erdragh.structures;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * A list of strings that stores every element as the <code>int</code> code of its string in a <code>StringDictionary</code>, in an <code>IntArrayList</code>. Every distinct string is kept once, so a list holding millions of strings out of a few thousand different ones, like status codes or host names, takes about four bytes per element instead of a node and a string of its own.
+ * <code>get</code> and <code>set</code> take constant time like in an <code>ArrayRingList</code>, and inserting and removing moves the codes just like it moves references. Searching compares codes instead of strings, and sorting only compares the distinct strings of the list with each other.
+ * <p>
+ * Several lists can share one dictionary, which also lets them move codes between each other without looking up the strings again. Reading never changes the list or the dictionary in a way other readers can see, so the list can be read by several threads at once, for example behind a <code>StampedList</code>. Lists sharing a dictionary must not be changed while any of them is used by another thread, see <code>StringDictionary</code>.
+ * @author Erdragh
+ * @version 1.0
+ * @see StringDictionary
+ */
+
+public class DictionaryList implements IList<String> {
+
+	/**
+	 * The code stored for <code>null</code>, which is never given to a string
+	 */
+	private static final int NULL = -1;
+
+	/**
+	 * The dictionary giving the strings their codes
+	 */
+	private final StringDictionary dictionary;
+	/**
+	 * The code of every element of the list
+	 */
+	private IntArrayList codes;
+
+	/**
+	 * A simple constructor creating an empty list with a dictionary of its own
+	 */
+	public DictionaryList() {
+		this(new StringDictionary());
+	}
+
+	/**
+	 * A constructor creating an empty list that encodes its strings with the given dictionary, which may be shared with other lists
+	 * @param dictionary the dictionary to be used, which may be front-coded
+	 */
+	public DictionaryList(StringDictionary dictionary) {
+		this.dictionary = dictionary;
+		this.codes = new IntArrayList();
+	}
+
+	/**
+	 * Gives back the dictionary the list encodes its strings with
+	 * @return the dictionary of the list
+	 */
+	public StringDictionary dictionary() {
+		return dictionary;
+	}
+
+	/**
+	 * Gives back the code of the string, adding it to the dictionary if needed
+	 * @param data the string
+	 * @return the code of the string
+	 */
+	private int encode(String data) {
+		return data == null ? NULL : dictionary.code(data);
+	}
+
+	/**
+	 * Gives back the string with the given code
+	 * @param code the code of the string
+	 * @return the string
+	 */
+	private String decode(int code) {
+		return code == NULL ? null : dictionary.string(code);
+	}
+
+	@Override
+	public void put(String data) {
+		codes.put(encode(data));
+	}
+
+	@Override
+	public void push(String data) {
+		codes.push(encode(data));
+	}
+
+	@Override
+	public String take() {
+		if (codes.length() == 0) {
+			return null;
+		}
+		return decode(codes.takeInt());
+	}
+
+	@Override
+	public String pull() {
+		if (codes.length() == 0) {
+			return null;
+		}
+		return decode(codes.pullInt());
+	}
+
+	@Override
+	public String get(int i) {
+		if (i < 0 || i >= codes.length()) {
+			//Index out of bounds for the List
+			return null;
+		}
+		return decode(codes.getInt(i));
+	}
+
+	@Override
+	public void set(int i, String data) {
+		if (i < 0 || i > codes.length()) {
+			//Index out of bounds for the List, the string is not even added to the dictionary
+			return;
+		}
+		codes.set(i, encode(data));
+	}
+
+	@Override
+	public void remove(int i) {
+		codes.remove(i);
+	}
+
+	@Override
+	public void insert(int i, String data) {
+		if (i < 0 || i > codes.length()) {
+			//Index out of bounds for the List, the string is not even added to the dictionary
+			return;
+		}
+		codes.insert(i, encode(data));
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		codes.removeAfter(i);
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		codes.removeBefore(i);
+	}
+
+	@Override
+	public void removeRange(int from, int to) {
+		int size = codes.length();
+		if (from < 0 || to > size || from >= to) {
+			//Range out of bounds for the List, or empty
+			return;
+		}
+		int count = to - from;
+		if (from < size - to) {
+			//there are fewer codes before the range, so they are moved up behind it and the list starts later
+			for (int j = from - 1; j >= 0; j--) {
+				codes.set(j + count, codes.getInt(j));
+			}
+			codes.removeBefore(count);
+		} else {
+			//there are fewer codes after the range, so they are moved down in front of it and the list ends earlier
+			for (int j = to; j < size; j++) {
+				codes.set(j - count, codes.getInt(j));
+			}
+			if (count == size) {
+				codes.clear();
+			} else {
+				codes.removeAfter(size - count - 1);
+			}
+		}
+	}
+
+	@Override
+	public DictionaryList splitAt(int i) {
+		int size = codes.length();
+		DictionaryList tail = new DictionaryList(dictionary);
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List, or there is nothing after it
+			return tail;
+		}
+		if (i == 0) {
+			//all codes are handed over to the new list
+			tail.codes = codes;
+			codes = new IntArrayList();
+			return tail;
+		}
+		tail.codes = new IntArrayList(size - i);
+		for (int j = i; j < size; j++) {
+			tail.codes.put(codes.getInt(j));
+		}
+		codes.removeAfter(i - 1);
+		return tail;
+	}
+
+	@Override
+	public void insertAll(int i, Iterable<? extends String> data) {
+		int size = codes.length();
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		//the codes are collected first, so the codes after the index only have to be moved once
+		IntArrayList added;
+		if (data instanceof DictionaryList && ((DictionaryList) data).dictionary == dictionary) {
+			//a list with the same dictionary already has the right codes
+			IntArrayList other = ((DictionaryList) data).codes;
+			added = new IntArrayList(other.length());
+			for (int j = 0; j < other.length(); j++) {
+				added.put(other.getInt(j));
+			}
+		} else {
+			added = new IntArrayList();
+			for (String element : data) {
+				added.put(encode(element));
+			}
+		}
+		int count = added.length();
+		if (count == 0) {
+			return;
+		}
+		if (i == size) {
+			for (int j = 0; j < count; j++) {
+				codes.put(added.getInt(j));
+			}
+			return;
+		}
+		IntArrayList merged = new IntArrayList(size + count);
+		for (int j = 0; j < i; j++) {
+			merged.put(codes.getInt(j));
+		}
+		for (int j = 0; j < count; j++) {
+			merged.put(added.getInt(j));
+		}
+		for (int j = i; j < size; j++) {
+			merged.put(codes.getInt(j));
+		}
+		codes = merged;
+	}
+
+	/**
+	 * Finds the code a value would be stored as, without adding it to the dictionary
+	 * @param value the value to look for
+	 * @return the code of the value, or <code>NULL - 1</code> if no element can be equal to it
+	 */
+	private int codeOf(Object value) {
+		if (value == null) {
+			return NULL;
+		}
+		if (!(value instanceof String)) {
+			return NULL - 1;
+		}
+		int code = dictionary.find((String) value);
+		return code < 0 ? NULL - 1 : code;
+	}
+
+	@Override
+	public int indexOf(Object value) {
+		int code = codeOf(value);
+		if (code < NULL) {
+			//the string is not in the dictionary, so no element can be equal to it
+			return -1;
+		}
+		int size = codes.length();
+		for (int j = 0; j < size; j++) {
+			if (codes.getInt(j) == code) {
+				return j;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean removeFirst(Object value) {
+		int i = indexOf(value);
+		if (i < 0) {
+			return false;
+		}
+		codes.remove(i);
+		return true;
+	}
+
+	@Override
+	public int removeAll(Object value) {
+		int code = codeOf(value);
+		if (code < NULL) {
+			return 0;
+		}
+		//the codes that stay are moved down over the removed ones in a single pass
+		int size = codes.length();
+		int kept = 0;
+		for (int j = 0; j < size; j++) {
+			int current = codes.getInt(j);
+			if (current != code) {
+				codes.set(kept++, current);
+			}
+		}
+		if (kept == 0) {
+			codes.clear();
+		} else {
+			codes.removeAfter(kept - 1);
+		}
+		return size - kept;
+	}
+
+	/**
+	 * Sorts the list, equal elements keep their order. Only the distinct strings of the list are sorted, every element then gets the rank of its string and the codes are put in order by counting them per rank. This takes time linear in the length of the list and the size of the dictionary, plus sorting the <code>k</code> distinct strings in <code>O(k log k)</code>, so a list of few distinct strings is sorted in almost linear time. It needs an <code>int</code> for every string in the dictionary, which for a large dictionary shared by short lists can be more than the list itself.
+	 * @param comparator decides the order of the elements, or <code>null</code> to use their natural order
+	 */
+	@Override
+	public void sort(Comparator<? super String> comparator) {
+		int size = codes.length();
+		if (size < 2) {
+			return;
+		}
+		Comparator<? super String> order = comparator == null ? Comparator.naturalOrder() : comparator;
+		//the codes of the list are marked at their code plus one, so null is marked at 0
+		int[] ranks = new int[dictionary.size() + 1];
+		int count = 0;
+		for (int j = 0; j < size; j++) {
+			int slot = codes.getInt(j) + 1;
+			if (ranks[slot] == 0) {
+				ranks[slot] = 1;
+				count++;
+			}
+		}
+		//the distinct codes of the list, in the order of the codes
+		int[] distinct = new int[count];
+		String[] strings = new String[count];
+		Integer[] sorted = new Integer[count];
+		for (int slot = 0, k = 0; k < count; slot++) {
+			if (ranks[slot] != 0) {
+				distinct[k] = slot - 1;
+				strings[k] = decode(slot - 1);
+				sorted[k] = k;
+				k++;
+			}
+		}
+		Arrays.sort(sorted, (a, b) -> order.compare(strings[a], strings[b]));
+		//strings the comparator finds equal get the same rank, so their elements keep their order
+		ranks[distinct[sorted[0]] + 1] = 0;
+		for (int k = 1; k < count; k++) {
+			int previous = sorted[k - 1];
+			ranks[distinct[sorted[k]] + 1] = order.compare(strings[previous], strings[sorted[k]]) == 0 ? ranks[distinct[previous] + 1] : k;
+		}
+		int[] starts = new int[count + 1];
+		for (int j = 0; j < size; j++) {
+			starts[ranks[codes.getInt(j) + 1] + 1]++;
+		}
+		for (int k = 0; k < count; k++) {
+			starts[k + 1] += starts[k];
+		}
+		int[] ordered = new int[size];
+		for (int j = 0; j < size; j++) {
+			int code = codes.getInt(j);
+			ordered[starts[ranks[code + 1]]++] = code;
+		}
+		for (int j = 0; j < size; j++) {
+			codes.set(j, ordered[j]);
+		}
+	}
+
+	@Override
+	public void clear() {
+		codes.clear();
+	}
+
+	@Override
+	public boolean isArrayBacked() {
+		return true;
+	}
+
+	@Override
+	public int length() {
+		return codes.length();
+	}
+
+}
@@ -0,0 +1,58 @@
+package com.github.erdragh.structures;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * A helper for releasing the memory of direct and mapped buffers right away instead of waiting for the Garbage Collector to find them.
+ * @author Erdragh
+ * @version 1.0
+ */
+final class DirectMemory {
+
+	/**
+	 * The <code>sun.misc.Unsafe</code> instance, or <code>null</code> if it is not accessible on this runtime
+	 */
+	private static final Object UNSAFE;
+	/**
+	 * The <code>invokeCleaner</code> method of <code>sun.misc.Unsafe</code>, or <code>null</code> if it is not accessible on this runtime
+	 */
+	private static final Method INVOKE_CLEANER;
+
+	static {
+		Object unsafe = null;
+		Method invokeCleaner = null;
+		try {
+			Class<?> type = Class.forName("sun.misc.Unsafe");
+			Field field = type.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			unsafe = field.get(null);
+			invokeCleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			//without access to the cleaner the memory is released by the Garbage Collector, just later
+			unsafe = null;
+			invokeCleaner = null;
+		}
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = invokeCleaner;
+	}
+
+	private DirectMemory() {
+	}
+
+	/**
+	 * Releases the memory of the buffer. The buffer must not be used anymore after this, which also applies to any duplicates or slices of it.
+	 * @param buffer a direct buffer that is not a slice or duplicate of another one
+	 */
+	static void free(ByteBuffer buffer) {
+		if (INVOKE_CLEANER == null || buffer == null || !buffer.isDirect()) {
+			return;
+		}
+		try {
+			INVOKE_CLEANER.invoke(UNSAFE, buffer);
+		} catch (ReflectiveOperationException e) {
+			//the buffer will be released by the Garbage Collector instead
+		}
+	}
+}
@@ -0,0 +1,210 @@
+package com.github.erdragh.structures;
+
+/**
+ * An implementation of <code>IDoubleList</code> that stores the values in a growable circular <code>double</code> array, just like <code>ArrayRingList</code> does with objects.
+ * @author Erdragh
+ * @version 1.0
+ * @see IDoubleList
+ * @see ArrayRingList
+ */
+
+public class DoubleArrayList implements IDoubleList {
+
+	/**
+	 * The capacity a list starts with if none is given. Capacities are always powers of two, so wrapping an index around the array is a simple bit mask.
+	 */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * The array the values are stored in. The list starts at <code>head</code> and wraps around to the beginning of the array when it reaches its end.
+	 */
+	private double[] values;
+	/**
+	 * The position in the array where the first value of the list is stored.
+	 */
+	private int head;
+	/**
+	 * The number of values in the list.
+	 */
+	private int size;
+
+	/**
+	 * A simple constructor creating an empty list with the default capacity
+	 */
+	public DoubleArrayList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * A constructor creating an empty list that can hold the given number of values before it has to grow
+	 * @param capacity the number of values the list should be able to hold initially, this will be rounded up to the next power of two
+	 */
+	public DoubleArrayList(int capacity) {
+		if (capacity < 0 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("Illegal capacity: " + capacity);
+		}
+		int rounded = Integer.highestOneBit(Math.max(capacity, 1) - 1) << 1;
+		values = new double[Math.max(rounded, 1)];
+	}
+
+	/**
+	 * Converts an index in the list to the position in the array where the value is stored.
+	 * @param i the index in the list
+	 * @return the position in the array
+	 */
+	private int position(int i) {
+		return (head + i) & (values.length - 1);
+	}
+
+	/**
+	 * Makes sure there is space for at least one more value. If the array is full it is doubled and the values are copied so that the list starts at the beginning of the new array again.
+	 */
+	private void ensureSpace() {
+		if (size < values.length) {
+			return;
+		}
+		if (values.length == 1 << 30) {
+			throw new IllegalStateException("List is too large");
+		}
+		double[] grown = new double[values.length << 1];
+		int front = values.length - head;
+		System.arraycopy(values, head, grown, 0, front);
+		System.arraycopy(values, 0, grown, front, head);
+		values = grown;
+		head = 0;
+	}
+
+	@Override
+	public void put(double data) {
+		ensureSpace();
+		values[position(size)] = data;
+		size++;
+	}
+
+	@Override
+	public void push(double data) {
+		ensureSpace();
+		head = (head - 1) & (values.length - 1);
+		values[head] = data;
+		size++;
+	}
+
+	@Override
+	public double takeDouble() {
+		if (size == 0) {
+			return 0.0;
+		}
+		return values[position(--size)];
+	}
+
+	@Override
+	public double pullDouble() {
+		if (size == 0) {
+			return 0.0;
+		}
+		double data = values[head];
+		head = (head + 1) & (values.length - 1);
+		size--;
+		return data;
+	}
+
+	@Override
+	public double getDouble(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return 0.0;
+		}
+		return values[position(i)];
+	}
+
+	@Override
+	public void set(int i, double data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == size) {
+			//the index is immediately after the end, so the value is added as a new element
+			put(data);
+		} else {
+			values[position(i)] = data;
+		}
+	}
+
+	@Override
+	public void remove(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i < size / 2) {
+			//the removed value is closer to the start, so the values before it are moved one up and the list starts one later
+			for (int j = i; j > 0; j--) {
+				values[position(j)] = values[position(j - 1)];
+			}
+			head = (head + 1) & (values.length - 1);
+		} else {
+			//the removed value is closer to the end, so the values after it are moved one down
+			for (int j = i; j < size - 1; j++) {
+				values[position(j)] = values[position(j + 1)];
+			}
+		}
+		size--;
+	}
+
+	@Override
+	public void insert(int i, double data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		ensureSpace();
+		if (i < size / 2) {
+			//the new value is closer to the start, so the list starts one earlier and the values before the index are moved one down
+			head = (head - 1) & (values.length - 1);
+			for (int j = 0; j < i; j++) {
+				values[position(j)] = values[position(j + 1)];
+			}
+		} else {
+			//the new value is closer to the end, so the values from the index on are moved one up
+			for (int j = size; j > i; j--) {
+				values[position(j)] = values[position(j - 1)];
+			}
+		}
+		values[position(i)] = data;
+		size++;
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		if (i < 0 || i >= size) {
+			//Do nothing, since index i is out of bounds for the List
+			return;
+		}
+		size = i + 1;
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		if (i < 0 || i >= size) {
+			//if the index is out of bounds the whole list is removed, just like in the other lists
+			clear();
+			return;
+		}
+		head = position(i);
+		size -= i;
+	}
+
+	@Override
+	public void clear() {
+		//primitive values do not keep anything alive, so forgetting about them is enough
+		head = 0;
+		size = 0;
+	}
+
+	@Override
+	public int length() {
+		return size;
+	}
+
+}
@@ -0,0 +1,324 @@
+package com.github.erdragh.structures;
+
+/**
+ * An implementation of <code>IDoubleList</code> that links together chunks of <code>double</code> values. Every chunk stores many values in one array, so a value only costs its own size instead of a whole node.
+ * @author Erdragh
+ * @version 1.0
+ * @see IDoubleList
+ * @see Chunk
+ */
+
+public class DoubleChunkedList implements IDoubleList {
+
+	/**
+	 * The number of values a chunk can hold if no other size is given.
+	 */
+	private static final int DEFAULT_CHUNK_SIZE = 256;
+
+	/**
+	 * The number of values every chunk of this list can hold.
+	 */
+	private final int chunkSize;
+	/**
+	 * The first chunk of the list. It is <code>null</code> while the list is empty.
+	 */
+	private Chunk first;
+	/**
+	 * The last chunk of the list, so values can be put at the end without walking there. It is <code>null</code> while the list is empty.
+	 */
+	private Chunk last;
+	/**
+	 * The number of values in the list.
+	 */
+	private int size;
+
+	/**
+	 * A simple constructor creating an empty list with the default chunk size
+	 */
+	public DoubleChunkedList() {
+		this(DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * A constructor creating an empty list with the given chunk size
+	 * @param chunkSize the number of values every chunk can hold, has to be at least 2
+	 */
+	public DoubleChunkedList(int chunkSize) {
+		if (chunkSize < 2) {
+			throw new IllegalArgumentException("Chunk size must be at least 2: " + chunkSize);
+		}
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * A part of the list structure. The values of a chunk are stored in <code>values</code> from <code>start</code> on, so values can be added and removed at both ends of a chunk without moving the others.
+	 */
+	private static class Chunk {
+		/**
+		 * The array holding the values of this chunk
+		 */
+		private final double[] values;
+		/**
+		 * The position of the first value of this chunk in the array
+		 */
+		private int start;
+		/**
+		 * The number of values in this chunk
+		 */
+		private int count;
+		/**
+		 * The next chunk of the list, or <code>null</code> if this is the last one
+		 */
+		private Chunk next;
+
+		/**
+		 * A simple constructor for an empty chunk
+		 * @param chunkSize the number of values the chunk can hold
+		 * @param start the position where the first value will be stored
+		 */
+		public Chunk(int chunkSize, int start) {
+			this.values = new double[chunkSize];
+			this.start = start;
+		}
+	}
+
+	@Override
+	public void put(double data) {
+		if (last == null || last.start + last.count == chunkSize) {
+			//there is no space at the end of the last chunk, so a new chunk is started
+			Chunk chunk = new Chunk(chunkSize, 0);
+			if (last == null) {
+				first = chunk;
+			} else {
+				last.next = chunk;
+			}
+			last = chunk;
+		}
+		last.values[last.start + last.count++] = data;
+		size++;
+	}
+
+	@Override
+	public void push(double data) {
+		if (first == null || first.start == 0) {
+			//there is no space at the beginning of the first chunk, so a new chunk is started that fills up from its end
+			Chunk chunk = new Chunk(chunkSize, chunkSize);
+			chunk.next = first;
+			first = chunk;
+			if (last == null) {
+				last = chunk;
+			}
+		}
+		first.values[--first.start] = data;
+		first.count++;
+		size++;
+	}
+
+	@Override
+	public double takeDouble() {
+		if (size == 0) {
+			return 0.0;
+		}
+		double data = last.values[last.start + --last.count];
+		size--;
+		if (last.count == 0) {
+			//the last chunk is empty now, so the one before it becomes the last
+			Chunk prev = null;
+			for (Chunk chunk = first; chunk != last; chunk = chunk.next) {
+				prev = chunk;
+			}
+			unlink(prev, last);
+		}
+		return data;
+	}
+
+	@Override
+	public double pullDouble() {
+		if (size == 0) {
+			return 0.0;
+		}
+		double data = first.values[first.start++];
+		first.count--;
+		size--;
+		if (first.count == 0) {
+			unlink(null, first);
+		}
+		return data;
+	}
+
+	@Override
+	public double getDouble(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return 0.0;
+		}
+		Chunk chunk = first;
+		while (i >= chunk.count) {
+			i -= chunk.count;
+			chunk = chunk.next;
+		}
+		return chunk.values[chunk.start + i];
+	}
+
+	@Override
+	public void set(int i, double data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == size) {
+			//the index is immediately after the end, so the value is added as a new element
+			put(data);
+			return;
+		}
+		Chunk chunk = first;
+		while (i >= chunk.count) {
+			i -= chunk.count;
+			chunk = chunk.next;
+		}
+		chunk.values[chunk.start + i] = data;
+	}
+
+	@Override
+	public void remove(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return;
+		}
+		Chunk prev = null;
+		Chunk chunk = first;
+		while (i >= chunk.count) {
+			i -= chunk.count;
+			prev = chunk;
+			chunk = chunk.next;
+		}
+		if (i < chunk.count / 2) {
+			//moves the values before the removed one up, so the chunk starts one later
+			System.arraycopy(chunk.values, chunk.start, chunk.values, chunk.start + 1, i);
+			chunk.start++;
+		} else {
+			//moves the values after the removed one down
+			System.arraycopy(chunk.values, chunk.start + i + 1, chunk.values, chunk.start + i, chunk.count - i - 1);
+		}
+		chunk.count--;
+		size--;
+		if (chunk.count == 0) {
+			unlink(prev, chunk);
+		}
+	}
+
+	@Override
+	public void insert(int i, double data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == 0) {
+			push(data);
+			return;
+		}
+		if (i == size) {
+			put(data);
+			return;
+		}
+		Chunk chunk = first;
+		while (i >= chunk.count) {
+			i -= chunk.count;
+			chunk = chunk.next;
+		}
+		if (chunk.count == chunkSize) {
+			//the chunk is full, so its upper half is moved into a new chunk after it
+			Chunk split = new Chunk(chunkSize, 0);
+			int half = chunk.count / 2;
+			split.count = chunk.count - half;
+			System.arraycopy(chunk.values, chunk.start + half, split.values, 0, split.count);
+			chunk.count = half;
+			split.next = chunk.next;
+			chunk.next = split;
+			if (last == chunk) {
+				last = split;
+			}
+			if (i > half) {
+				i -= half;
+				chunk = split;
+			}
+		}
+		if (chunk.start + chunk.count < chunkSize) {
+			//there is space at the end of the chunk, so the values from the index on are moved one up
+			System.arraycopy(chunk.values, chunk.start + i, chunk.values, chunk.start + i + 1, chunk.count - i);
+		} else {
+			//the space is at the beginning of the chunk, so the values before the index are moved one down
+			System.arraycopy(chunk.values, chunk.start, chunk.values, chunk.start - 1, i);
+			chunk.start--;
+		}
+		chunk.values[chunk.start + i] = data;
+		chunk.count++;
+		size++;
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		if (i < 0 || i >= size) {
+			//Do nothing, since index i is out of bounds for the List
+			return;
+		}
+		size = i + 1;
+		Chunk chunk = first;
+		while (i >= chunk.count) {
+			i -= chunk.count;
+			chunk = chunk.next;
+		}
+		//the rest of the chunk and all chunks after it are dropped
+		chunk.count = i + 1;
+		chunk.next = null;
+		last = chunk;
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		if (i < 0 || i >= size) {
+			//if the index is out of bounds the whole list is removed, just like in the other lists
+			clear();
+			return;
+		}
+		size -= i;
+		Chunk chunk = first;
+		while (i >= chunk.count) {
+			i -= chunk.count;
+			chunk = chunk.next;
+		}
+		//all chunks before this one are dropped, as well as the beginning of this chunk
+		chunk.start += i;
+		chunk.count -= i;
+		first = chunk;
+	}
+
+	@Override
+	public void clear() {
+		first = null;
+		last = null;
+		size = 0;
+	}
+
+	@Override
+	public int length() {
+		return size;
+	}
+
+	/**
+	 * Removes an empty chunk from the list structure
+	 * @param prev the chunk before the removed one, or <code>null</code> if the removed one is the first chunk
+	 * @param chunk the chunk to be removed
+	 */
+	private void unlink(Chunk prev, Chunk chunk) {
+		if (prev == null) {
+			first = chunk.next;
+		} else {
+			prev.next = chunk.next;
+		}
+		if (last == chunk) {
+			last = prev;
+		}
+	}
+
+}
@@ -0,0 +1,505 @@
+package com.github.erdragh.structures;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/**
+ * An implementation of a double linked list. Every node knows the node before it as well as the one after it, so both ends of the list can be changed in constant time, and every index is walked to from whichever end of the list is closer.
+ * The list is framed by two sentinel nodes that store no data, so linking a node in or out never has to check whether it is at an end of the list.
+ * @author Erdragh
+ * @version 1.0
+ * @see SingleLinkedList
+ */
+
+public class DoubleLinkedList<T> implements IList<T>, ITraversalCost {
+
+	/**
+	 * The sentinel in front of the first element. Its next node is the first element, or <code>tail</code> while the list is empty.
+	 */
+	private final Node<T> head = new Node<T>(null);
+	/**
+	 * The sentinel after the last element. Its previous node is the last element, or <code>head</code> while the list is empty.
+	 */
+	private final Node<T> tail = new Node<T>(null);
+	/**
+	 * The number of elements in the list
+	 */
+	private int size;
+
+	/**
+	 * A simple constructor creating an empty list
+	 */
+	public DoubleLinkedList() {
+		head.next = tail;
+		tail.previous = head;
+	}
+
+	/**
+	 * A node of the list structure, linked to the nodes on both sides of it
+	 */
+	private static class Node<T> {
+		/**
+		 * The data element stored in the node
+		 */
+		private T data;
+		/**
+		 * The node before this one, which is <code>head</code> for the first element
+		 */
+		private Node<T> previous;
+		/**
+		 * The node after this one, which is <code>tail</code> for the last element
+		 */
+		private Node<T> next;
+
+		/**
+		 * A simple constructor for creating a new node for data
+		 * @param data the data stored in the node
+		 */
+		public Node(T data) {
+			this.data = data;
+		}
+	}
+
+	/**
+	 * The traversal engine of the list. Walks to the node at the given index from the start or from the end, whichever is closer, so no index is more than half the list away.
+	 * @param i the index of the node to walk to, from <code>-1</code> for the <code>head</code> up to the length of the list for the <code>tail</code>
+	 * @return the node at the given index
+	 */
+	private Node<T> seek(int i) {
+		Node<T> node;
+		if (i < size / 2) {
+			node = head;
+			for (int current = -1; current < i; current++) {
+				node = node.next;
+			}
+		} else {
+			node = tail;
+			for (int current = size; current > i; current--) {
+				node = node.previous;
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Links a new node in front of the given one
+	 * @param next the node the new one comes before
+	 * @param data the data stored in the new node
+	 * @return the new node
+	 */
+	private Node<T> linkBefore(Node<T> next, T data) {
+		Node<T> node = new Node<T>(data);
+		node.previous = next.previous;
+		node.next = next;
+		next.previous.next = node;
+		next.previous = node;
+		size++;
+		return node;
+	}
+
+	/**
+	 * Unlinks a node from the list
+	 * @param node the node to be removed, which must not be one of the sentinels
+	 * @return the data of the removed node
+	 */
+	private T unlink(Node<T> node) {
+		node.previous.next = node.next;
+		node.next.previous = node.previous;
+		size--;
+		return node.data;
+	}
+
+	/**
+	 * Links two nodes directly to each other, which unlinks every node that was between them
+	 * @param previous the node that comes first
+	 * @param next the node that comes right after it from now on
+	 */
+	private static <T> void join(Node<T> previous, Node<T> next) {
+		previous.next = next;
+		next.previous = previous;
+	}
+
+	@Override
+	public void put(T data) {
+		linkBefore(tail, data);
+	}
+
+	@Override
+	public void push(T data) {
+		linkBefore(head.next, data);
+	}
+
+	@Override
+	public T take() {
+		if (size == 0) {
+			return null;
+		}
+		//the last node knows the one before it, so nothing has to be walked
+		return unlink(tail.previous);
+	}
+
+	@Override
+	public T pull() {
+		if (size == 0) {
+			return null;
+		}
+		return unlink(head.next);
+	}
+
+	@Override
+	public T get(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return null;
+		}
+		return seek(i).data;
+	}
+
+	@Override
+	public void set(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == size) {
+			//the index is immediately after the end, so the data is added as a new element
+			put(data);
+		} else {
+			seek(i).data = data;
+		}
+	}
+
+	@Override
+	public void remove(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return;
+		}
+		unlink(seek(i));
+	}
+
+	@Override
+	public void insert(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		//the index of the tail is the length, so inserting at the end needs no special case
+		linkBefore(seek(i), data);
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		if (i < 0 || i >= size) {
+			//Do nothing, since index i is out of bounds for the List
+			return;
+		}
+		//cuts off everything after the node at once, the Garbage Collector removes the rest
+		join(seek(i), tail);
+		size = i + 1;
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		if (i < 0 || i >= size) {
+			//if the index is out of bounds the whole list is removed, just like in the other lists
+			clear();
+			return;
+		}
+		join(head, seek(i));
+		size -= i;
+	}
+
+	/**
+	 * Removes the elements in the range by walking to the nodes on both sides of it, each from the closer end of the list, and linking them to each other.
+	 * @param from the index of the first element to be removed
+	 * @param to the index after the last element to be removed. If the range is not inside the list nothing is removed
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		if (from < 0 || to > size || from >= to) {
+			//Range out of bounds for the List, or empty
+			return;
+		}
+		join(seek(from - 1), seek(to));
+		size -= to - from;
+	}
+
+	@Override
+	public DoubleLinkedList<T> splitAt(int i) {
+		DoubleLinkedList<T> split = new DoubleLinkedList<T>();
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List, or there is nothing after it
+			return split;
+		}
+		//the nodes from the index on are moved between the sentinels of the new list
+		Node<T> first = seek(i);
+		Node<T> last = tail.previous;
+		join(first.previous, tail);
+		join(split.head, first);
+		join(last, split.tail);
+		split.size = size - i;
+		size = i;
+		return split;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void appendList(IList<? extends T> other) {
+		if (!(other instanceof DoubleLinkedList)) {
+			IList.super.appendList(other);
+			return;
+		}
+		if (other == this) {
+			throw new IllegalArgumentException("A list cannot be appended to itself");
+		}
+		//the nodes only ever hand out their data as T, so the nodes of the other list can be taken over as they are
+		DoubleLinkedList<T> list = (DoubleLinkedList<T>) other;
+		if (list.size == 0) {
+			return;
+		}
+		Node<T> first = list.head.next;
+		Node<T> last = list.tail.previous;
+		join(tail.previous, first);
+		join(last, tail);
+		size += list.size;
+		list.clear();
+	}
+
+	@Override
+	public void insertAll(int i, Iterable<? extends T> data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		//builds a separate chain first, so reading this list itself as the data is safe, then links the whole chain in at once
+		Node<T> chain = new Node<T>(null);
+		Node<T> chainEnd = chain;
+		int count = 0;
+		for (T element : data) {
+			Node<T> node = new Node<T>(element);
+			join(chainEnd, node);
+			chainEnd = node;
+			count++;
+		}
+		if (count == 0) {
+			return;
+		}
+		Node<T> next = seek(i);
+		join(next.previous, chain.next);
+		join(chainEnd, next);
+		size += count;
+	}
+
+	/**
+	 * Sorts the list with a bottom-up natural merge sort on the links to the next nodes, the same algorithm <code>SingleLinkedList</code> uses, written for the nodes of this list. Afterwards the links to the previous nodes are set again in a single pass. No node is created and no data is moved.
+	 * @param comparator decides the order of the elements, or <code>null</code> to use their natural order
+	 */
+	@Override
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public void sort(Comparator<? super T> comparator) {
+		Comparator<? super T> order = comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+		if (size < 2) {
+			return;
+		}
+		//the chain is cut off from the tail, so the runs end in null while they are merged
+		tail.previous.next = null;
+		//a list cannot have more than 2^32 runs, so 32 bins are always enough
+		Node<T>[] bins = new Node[32];
+		Node<T> rest = head.next;
+		while (rest != null) {
+			//cuts off the next run
+			Node<T> run = rest;
+			Node<T> runLast = run;
+			while (runLast.next != null && order.compare(runLast.next.data, runLast.data) >= 0) {
+				runLast = runLast.next;
+			}
+			rest = runLast.next;
+			runLast.next = null;
+			int k = 0;
+			for (; bins[k] != null; k++) {
+				//the bin holds earlier elements than the run, so it comes first to keep the sort stable
+				run = merge(bins[k], run, order);
+				bins[k] = null;
+			}
+			bins[k] = run;
+		}
+		//the higher bins hold the earlier elements
+		Node<T> sorted = null;
+		for (Node<T> bin : bins) {
+			if (bin != null) {
+				sorted = sorted == null ? bin : merge(bin, sorted, order);
+			}
+		}
+		//links the sorted chain back in and sets the links to the previous nodes on the way
+		Node<T> previous = head;
+		for (Node<T> node = sorted; node != null; node = node.next) {
+			join(previous, node);
+			previous = node;
+		}
+		join(previous, tail);
+	}
+
+	/**
+	 * Merges two sorted chains that end in <code>null</code> into one by relinking their links to the next nodes. On equal elements the one of the first chain comes first.
+	 * @param a the first node of the first chain
+	 * @param b the first node of the second chain
+	 * @param order the order of the elements
+	 * @return the first node of the merged chain
+	 */
+	private static <T> Node<T> merge(Node<T> a, Node<T> b, Comparator<? super T> order) {
+		Node<T> first;
+		if (order.compare(b.data, a.data) < 0) {
+			first = b;
+			b = b.next;
+		} else {
+			first = a;
+			a = a.next;
+		}
+		Node<T> merged = first;
+		while (a != null && b != null) {
+			if (order.compare(b.data, a.data) < 0) {
+				merged.next = b;
+				b = b.next;
+			} else {
+				merged.next = a;
+				a = a.next;
+			}
+			merged = merged.next;
+		}
+		//one chain is used up, the rest of the other one is linked as it is
+		merged.next = a != null ? a : b;
+		return first;
+	}
+
+	@Override
+	public void clear() {
+		//unlinks all nodes at once, the Garbage Collector removes them
+		join(head, tail);
+		size = 0;
+	}
+
+	@Override
+	public int length() {
+		return size;
+	}
+
+	@Override
+	public int traversalCost(ListOperation operation, int i) {
+		//mirrors the calls to seek, which walk from the closer end
+		switch (operation) {
+			case GET:
+			case SET:
+			case REMOVE:
+			case INSERT:
+			case REMOVE_AFTER:
+			case REMOVE_BEFORE:
+			case SPLIT_AT:
+			case INSERT_ALL:
+				if (i < 0 || i >= size) {
+					return 0;
+				}
+				return seekCost(i);
+			case REMOVE_RANGE:
+				//seeks the node before the range and the node after it, the end of the range is not known here, but seeking it never walks past the middle or past the end
+				if (i < 0 || i >= size) {
+					return 0;
+				}
+				return seekCost(i - 1) + Math.min(size - i, size / 2 + 1);
+			case CONTAINS:
+			case INDEX_OF:
+			case REMOVE_FIRST:
+			case REMOVE_ALL:
+				//the value based operations walk the list with a cursor, at most all of it, where the first ones stop is not known beforehand
+				return size;
+			default:
+				return 0;
+		}
+	}
+
+	/**
+	 * Tells how many nodes <code>seek</code> walks past to reach the given index, without walking
+	 * @param i the index, from <code>-1</code> up to the length of the list
+	 * @return the number of nodes walked past
+	 */
+	private int seekCost(int i) {
+		return i < size / 2 ? i + 1 : size - i;
+	}
+
+	@Override
+	public Spliterator<T> spliterator() {
+		//walks the chain of nodes once and splits off batches of them instead of looking up every index
+		return new BatchSpliterator<T>(cursor(), size);
+	}
+
+	@Override
+	public ICursor<T> cursor() {
+		return new NodeCursor();
+	}
+
+	/**
+	 * A cursor that follows the nodes of the list. Since every node knows its neighbours, the cursor can remove and insert on both sides of its node in constant time.
+	 * @see ICursor
+	 */
+	private class NodeCursor implements ICursor<T> {
+		/**
+		 * The node the cursor is on, or <code>null</code> if it is not on an element
+		 */
+		private Node<T> current;
+		/**
+		 * The node the next call to <code>next</code> moves to, which is <code>tail</code> at the end of the list
+		 */
+		private Node<T> upcoming = head.next;
+
+		@Override
+		public boolean hasNext() {
+			return upcoming != tail;
+		}
+
+		@Override
+		public T next() {
+			if (upcoming == tail) {
+				throw new NoSuchElementException();
+			}
+			current = upcoming;
+			upcoming = current.next;
+			return current.data;
+		}
+
+		@Override
+		public void set(T data) {
+			checkCurrent();
+			current.data = data;
+		}
+
+		@Override
+		public void remove() {
+			checkCurrent();
+			unlink(current);
+			current = null;
+		}
+
+		@Override
+		public void insertBefore(T data) {
+			checkCurrent();
+			linkBefore(current, data);
+		}
+
+		@Override
+		public void insertAfter(T data) {
+			checkCurrent();
+			upcoming = linkBefore(current.next, data);
+		}
+
+		/**
+		 * Makes sure the cursor is on an element
+		 */
+		private void checkCurrent() {
+			if (current == null) {
+				throw new IllegalStateException("The cursor is not on an element");
+			}
+		}
+	}
+
+}
@@ -0,0 +1,659 @@
+package com.github.erdragh.structures;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/**
+ * A doubly linked list that additionally keeps a hash index from every value to the nodes holding it, similar to a <code>LinkedHashMap</code> that allows the same value more than once. This makes <code>contains</code>, <code>removeFirst</code> and <code>removeAll</code> take constant expected time per removed element, and <code>indexOf</code> only has to count the nodes in front of the first match instead of comparing every element on the way.
+ * The nodes with equal values are chained together in the order of the list, so the first of them is always known. To keep that order, a node that is inserted in the middle of the list has to find its place among the nodes with the same value, which is done on the walk to the index that inserting needs anyway.
+ * <p>
+ * Just like with a <code>HashMap</code>, the values must not be changed in a way that changes their <code>equals</code> or <code>hashCode</code> while they are in the list.
+ * @author Erdragh
+ * @version 1.0
+ * @see IList
+ */
+
+public class HashIndexedList<T> implements IList<T> {
+
+	/**
+	 * The first node of the list, or <code>null</code> while the list is empty
+	 */
+	private Node<T> start;
+	/**
+	 * The last node of the list, or <code>null</code> while the list is empty
+	 */
+	private Node<T> last;
+	/**
+	 * The number of elements in the list
+	 */
+	private int size;
+	/**
+	 * Maps every value in the list to the chain of nodes holding it
+	 */
+	private HashMap<Object, Occurrences<T>> index = new HashMap<Object, Occurrences<T>>();
+	/**
+	 * The first node with equal data at or after the node found by the last call to <code>seek</code>, or <code>null</code> if there is none
+	 */
+	private Node<T> equalAfter;
+
+	/**
+	 * A node of the list. Besides its neighbours in the list it knows its neighbours among the nodes with equal data.
+	 */
+	private static class Node<T> {
+		/**
+		 * The data element stored in the node
+		 */
+		private T data;
+		/**
+		 * The node before this one, or <code>null</code> if this is the first node
+		 */
+		private Node<T> previous;
+		/**
+		 * The node after this one, or <code>null</code> if this is the last node
+		 */
+		private Node<T> next;
+		/**
+		 * The closest node before this one with equal data, or <code>null</code> if there is none
+		 */
+		private Node<T> previousEqual;
+		/**
+		 * The closest node after this one with equal data, or <code>null</code> if there is none
+		 */
+		private Node<T> nextEqual;
+		/**
+		 * The chain of nodes with equal data this node belongs to. Comparing it tells whether two nodes hold equal data without calling <code>equals</code>.
+		 */
+		private Occurrences<T> occurrences;
+
+		/**
+		 * A simple constructor for creating a new node for data
+		 * @param data the data stored in the node
+		 */
+		public Node(T data) {
+			this.data = data;
+		}
+	}
+
+	/**
+	 * The chain of all nodes holding equal data, in the order of the list
+	 */
+	private static class Occurrences<T> {
+		/**
+		 * The first node with the data
+		 */
+		private Node<T> first;
+		/**
+		 * The last node with the data
+		 */
+		private Node<T> last;
+	}
+
+	/**
+	 * Walks to the node at the given index from the nearer end of the list
+	 * @param i the index, it has to be in bounds
+	 * @return the node at the index
+	 */
+	private Node<T> node(int i) {
+		Node<T> node;
+		if (i < size / 2) {
+			node = start;
+			for (int j = 0; j < i; j++) {
+				node = node.next;
+			}
+		} else {
+			node = last;
+			for (int j = size - 1; j > i; j--) {
+				node = node.previous;
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Walks to the node at the given index from the nearer end of the list, and finds out on the way where a node with the given data belongs among the nodes with equal data. That place is stored in <code>equalAfter</code>.
+	 * @param i the index, it may be the length of the list
+	 * @param data the data whose place is looked for
+	 * @return the node at the index, or <code>null</code> if the index is the length of the list
+	 */
+	private Node<T> seek(int i, Object data) {
+		Occurrences<T> occurrences = index.get(data);
+		Node<T> node;
+		if (i < size / 2) {
+			//the last node with equal data in front of the index is remembered, the place is right after it
+			Node<T> equalBefore = null;
+			node = start;
+			for (int j = 0; j < i; j++) {
+				if (occurrences != null && node.occurrences == occurrences) {
+					equalBefore = node;
+				}
+				node = node.next;
+			}
+			if (equalBefore != null) {
+				equalAfter = equalBefore.nextEqual;
+			} else {
+				equalAfter = occurrences == null ? null : occurrences.first;
+			}
+		} else {
+			//walking backwards, the last node with equal data that is passed is the first one from the index on
+			equalAfter = null;
+			node = null;
+			for (int j = size; j > i; j--) {
+				node = node == null ? last : node.previous;
+				if (occurrences != null && node.occurrences == occurrences) {
+					equalAfter = node;
+				}
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Adds a node to the chain of nodes with equal data
+	 * @param node the node, it must already have its data
+	 * @param equalAfter the first node with equal data after the node, or <code>null</code> if the node comes after all of them
+	 */
+	private void index(Node<T> node, Node<T> equalAfter) {
+		Occurrences<T> occurrences = equalAfter != null ? equalAfter.occurrences : index.get(node.data);
+		if (occurrences == null) {
+			occurrences = new Occurrences<T>();
+			index.put(node.data, occurrences);
+		}
+		node.occurrences = occurrences;
+		node.nextEqual = equalAfter;
+		node.previousEqual = equalAfter == null ? occurrences.last : equalAfter.previousEqual;
+		if (node.previousEqual == null) {
+			occurrences.first = node;
+		} else {
+			node.previousEqual.nextEqual = node;
+		}
+		if (equalAfter == null) {
+			occurrences.last = node;
+		} else {
+			equalAfter.previousEqual = node;
+		}
+	}
+
+	/**
+	 * Removes a node from the chain of nodes with equal data. If it was the only one, the data is removed from the index.
+	 * @param node the node
+	 */
+	private void unindex(Node<T> node) {
+		Occurrences<T> occurrences = node.occurrences;
+		if (node.previousEqual == null) {
+			occurrences.first = node.nextEqual;
+		} else {
+			node.previousEqual.nextEqual = node.nextEqual;
+		}
+		if (node.nextEqual == null) {
+			occurrences.last = node.previousEqual;
+		} else {
+			node.nextEqual.previousEqual = node.previousEqual;
+		}
+		if (occurrences.first == null) {
+			index.remove(node.data);
+		}
+		node.previousEqual = null;
+		node.nextEqual = null;
+		node.occurrences = null;
+	}
+
+	/**
+	 * Links a node into the list in front of another one
+	 * @param node the new node
+	 * @param next the node it is put in front of, or <code>null</code> to put it at the end
+	 */
+	private void link(Node<T> node, Node<T> next) {
+		Node<T> previous = next == null ? last : next.previous;
+		node.previous = previous;
+		node.next = next;
+		if (previous == null) {
+			start = node;
+		} else {
+			previous.next = node;
+		}
+		if (next == null) {
+			last = node;
+		} else {
+			next.previous = node;
+		}
+		size++;
+	}
+
+	/**
+	 * Unlinks a node from the list and from the index
+	 * @param node the node to be removed
+	 */
+	private void unlink(Node<T> node) {
+		if (node.previous == null) {
+			start = node.next;
+		} else {
+			node.previous.next = node.next;
+		}
+		if (node.next == null) {
+			last = node.previous;
+		} else {
+			node.next.previous = node.previous;
+		}
+		unindex(node);
+		node.previous = null;
+		node.next = null;
+		size--;
+	}
+
+	/**
+	 * Finds the first node with data equal to the given node's after the given one. This is needed when a node's place among the nodes with equal data was not found on the way, so it walks until it finds one.
+	 * @param from the first node that is checked, or <code>null</code>
+	 * @param data the data whose place is looked for
+	 * @return the first node with equal data from <code>from</code> on, or <code>null</code> if there is none
+	 */
+	private Node<T> equalFrom(Node<T> from, Object data) {
+		Occurrences<T> occurrences = index.get(data);
+		if (occurrences == null) {
+			return null;
+		}
+		for (Node<T> node = from; node != null; node = node.next) {
+			if (node.occurrences == occurrences) {
+				return node;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void put(T data) {
+		Node<T> node = new Node<T>(data);
+		link(node, null);
+		//nothing comes after the last node
+		index(node, null);
+	}
+
+	@Override
+	public void push(T data) {
+		Node<T> node = new Node<T>(data);
+		Occurrences<T> occurrences = index.get(data);
+		link(node, start);
+		//nothing comes before the first node
+		index(node, occurrences == null ? null : occurrences.first);
+	}
+
+	@Override
+	public T take() {
+		if (last == null) {
+			return null;
+		}
+		Node<T> node = last;
+		unlink(node);
+		return node.data;
+	}
+
+	@Override
+	public T pull() {
+		if (start == null) {
+			return null;
+		}
+		Node<T> node = start;
+		unlink(node);
+		return node.data;
+	}
+
+	@Override
+	public T get(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return null;
+		}
+		return node(i).data;
+	}
+
+	@Override
+	public void set(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == size) {
+			//the index is immediately after the end, so the data is added as a new element
+			put(data);
+			return;
+		}
+		Node<T> node = seek(i, data);
+		if (node.occurrences == index.get(data)) {
+			//the new data is equal to the old one, so the node keeps its place
+			node.data = data;
+			return;
+		}
+		//the node itself does not hold equal data yet, so it was not taken as its own place
+		Node<T> place = equalAfter;
+		unindex(node);
+		node.data = data;
+		index(node, place);
+	}
+
+	@Override
+	public void remove(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return;
+		}
+		unlink(node(i));
+	}
+
+	@Override
+	public void insert(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == size) {
+			put(data);
+			return;
+		}
+		Node<T> next = seek(i, data);
+		Node<T> node = new Node<T>(data);
+		link(node, next);
+		index(node, equalAfter);
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		if (i < 0 || i >= size) {
+			//Do nothing, since index i is out of bounds for the List
+			return;
+		}
+		Node<T> node = node(i);
+		//every removed node has to leave the index, so they are removed one by one from the end
+		while (last != node) {
+			unlink(last);
+		}
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		if (i < 0 || i >= size) {
+			//if the index is out of bounds the whole list is removed, just like in the other lists
+			clear();
+			return;
+		}
+		for (int j = 0; j < i; j++) {
+			unlink(start);
+		}
+	}
+
+	@Override
+	public void removeRange(int from, int to) {
+		if (from < 0 || to > size || from >= to) {
+			//Range out of bounds for the List, or empty
+			return;
+		}
+		Node<T> node = node(from);
+		for (int j = from; j < to; j++) {
+			Node<T> next = node.next;
+			unlink(node);
+			node = next;
+		}
+	}
+
+	/**
+	 * Splits the list in two. The nodes from the index on are moved to the new list and have to be added to its index one by one, so this takes time in the number of moved elements. Splitting at index 0 hands over the whole list including its index.
+	 * @param i the index of the first data point that is moved to the new list
+	 * @return a new list holding the data points from the index on
+	 */
+	@Override
+	public HashIndexedList<T> splitAt(int i) {
+		HashIndexedList<T> tail = new HashIndexedList<T>();
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List, or there is nothing after it
+			return tail;
+		}
+		if (i == 0) {
+			tail.start = start;
+			tail.last = last;
+			tail.size = size;
+			tail.index = index;
+			start = null;
+			last = null;
+			size = 0;
+			index = new HashMap<Object, Occurrences<T>>();
+			return tail;
+		}
+		Node<T> node = node(i);
+		while (node != null) {
+			Node<T> next = node.next;
+			unlink(node);
+			tail.link(node, null);
+			tail.index(node, null);
+			node = next;
+		}
+		return tail;
+	}
+
+	/**
+	 * Inserts all given data elements at the specified index. Every inserted node would have to find its place among the nodes with equal data after the index, so instead the nodes after the index are split off, the data is put at the end and the split off nodes are appended again.
+	 * @param i the index where the first element is inserted. If this is out of bounds nothing is inserted
+	 * @param data the data to be inserted
+	 */
+	@Override
+	public void insertAll(int i, Iterable<? extends T> data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (data == this) {
+			//the list would grow while it is read, so it is copied first
+			ArrayRingList<T> copy = new ArrayRingList<T>(size);
+			copy.putAll(this);
+			data = copy;
+		}
+		HashIndexedList<T> rest = splitAt(i);
+		for (T element : data) {
+			put(element);
+		}
+		appendList(rest);
+	}
+
+	@Override
+	public void appendList(IList<? extends T> other) {
+		if (other == this) {
+			throw new IllegalArgumentException("A list cannot be appended to itself");
+		}
+		if (!(other instanceof HashIndexedList)) {
+			putAll(other);
+			other.clear();
+			return;
+		}
+		@SuppressWarnings("unchecked")
+		HashIndexedList<T> list = (HashIndexedList<T>) other;
+		if (size == 0) {
+			//the whole other list including its index is taken over
+			start = list.start;
+			last = list.last;
+			size = list.size;
+			index = list.index;
+			list.start = null;
+			list.last = null;
+			list.size = 0;
+			list.index = new HashMap<Object, Occurrences<T>>();
+			return;
+		}
+		//the nodes are taken over, but have to be added to this list's index
+		Node<T> node = list.start;
+		while (node != null) {
+			Node<T> next = node.next;
+			node.previousEqual = null;
+			node.nextEqual = null;
+			link(node, null);
+			index(node, null);
+			node = next;
+		}
+		list.start = null;
+		list.last = null;
+		list.size = 0;
+		list.index.clear();
+	}
+
+	@Override
+	public boolean contains(Object value) {
+		return index.containsKey(value);
+	}
+
+	/**
+	 * Finds the first element equal to the given value. The first node with the value is known from the index, so only the nodes in front of it are counted, without comparing them.
+	 * @param value the value to look for
+	 * @return the index of the first equal element, or <code>-1</code> if there is none
+	 */
+	@Override
+	public int indexOf(Object value) {
+		Occurrences<T> occurrences = index.get(value);
+		if (occurrences == null) {
+			return -1;
+		}
+		int i = 0;
+		for (Node<T> node = occurrences.first.previous; node != null; node = node.previous) {
+			i++;
+		}
+		return i;
+	}
+
+	@Override
+	public boolean removeFirst(Object value) {
+		Occurrences<T> occurrences = index.get(value);
+		if (occurrences == null) {
+			return false;
+		}
+		unlink(occurrences.first);
+		return true;
+	}
+
+	@Override
+	public int removeAll(Object value) {
+		Occurrences<T> occurrences = index.get(value);
+		if (occurrences == null) {
+			return 0;
+		}
+		int removed = 0;
+		//the chain is only read through first, which unlinking moves on
+		while (occurrences.first != null) {
+			unlink(occurrences.first);
+			removed++;
+		}
+		return removed;
+	}
+
+	/**
+	 * Sorts the list. Writing the sorted elements back would have to find the place of every node among the nodes with equal data again, so the list is rebuilt from the sorted elements instead, which keeps this at <code>O(n log n)</code>.
+	 * @param comparator decides the order of the elements, or <code>null</code> to use their natural order
+	 */
+	@Override
+	public void sort(Comparator<? super T> comparator) {
+		ArrayRingList<T> sorted = new ArrayRingList<T>(size);
+		sorted.putAll(this);
+		sorted.sort(comparator);
+		clear();
+		putAll(sorted);
+	}
+
+	@Override
+	public void clear() {
+		start = null;
+		last = null;
+		size = 0;
+		index.clear();
+	}
+
+	@Override
+	public int length() {
+		return size;
+	}
+
+	@Override
+	public Spliterator<T> spliterator() {
+		//walks the chain of nodes once and splits off batches of them instead of looking up every index
+		return new BatchSpliterator<T>(cursor(), size);
+	}
+
+	@Override
+	public ICursor<T> cursor() {
+		return new NodeCursor();
+	}
+
+	/**
+	 * A cursor following the nodes of the list. Removing is done in constant time. Setting and inserting have to find the place of the new data among the nodes with equal data, so they walk on from the cursor until they find a node with equal data.
+	 * @see ICursor
+	 */
+	private class NodeCursor implements ICursor<T> {
+		/**
+		 * The node the cursor is on, or <code>null</code> if it is not on an element
+		 */
+		private Node<T> current;
+		/**
+		 * The node the next call to <code>next</code> moves to
+		 */
+		private Node<T> upcoming = start;
+
+		@Override
+		public boolean hasNext() {
+			return upcoming != null;
+		}
+
+		@Override
+		public T next() {
+			if (upcoming == null) {
+				throw new NoSuchElementException();
+			}
+			current = upcoming;
+			upcoming = current.next;
+			return current.data;
+		}
+
+		@Override
+		public void set(T data) {
+			checkCurrent();
+			if (current.occurrences == index.get(data)) {
+				current.data = data;
+				return;
+			}
+			Node<T> place = equalFrom(current.next, data);
+			unindex(current);
+			current.data = data;
+			index(current, place);
+		}
+
+		@Override
+		public void remove() {
+			checkCurrent();
+			unlink(current);
+			current = null;
+		}
+
+		@Override
+		public void insertBefore(T data) {
+			checkCurrent();
+			Node<T> node = new Node<T>(data);
+			Node<T> place = equalFrom(current, data);
+			link(node, current);
+			index(node, place);
+		}
+
+		@Override
+		public void insertAfter(T data) {
+			checkCurrent();
+			Node<T> node = new Node<T>(data);
+			Node<T> place = equalFrom(current.next, data);
+			link(node, current.next);
+			index(node, place);
+			upcoming = node;
+		}
+
+		/**
+		 * Makes sure the cursor is on an element
+		 */
+		private void checkCurrent() {
+			if (current == null) {
+				throw new IllegalStateException("The cursor is not on an element");
+			}
+		}
+	}
+
+}
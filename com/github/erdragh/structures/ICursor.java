@@ -0,0 +1,50 @@
+package com.github.erdragh.structures;
+
+import java.util.Iterator;
+
+/**
+ * A cursor walks through a list from the beginning to the end and can change the list at the element it is currently on. This way a whole pass over a list, including changes, only needs a single traversal.
+ * The element the cursor is on is the one last returned by <code>next</code>. Before the first call to <code>next</code> and after the element was removed, the cursor is not on any element.
+ * @author Erdragh
+ * @version 1.0
+ * @see IList#cursor()
+ */
+public interface ICursor<T> extends Iterator<T> {
+	/**
+	 * Tells whether there is another element after the one the cursor is on
+	 * @return <code>true</code> if <code>next</code> can be called
+	 */
+	@Override
+	public boolean hasNext();
+	/**
+	 * Moves the cursor to the next element
+	 * @return the data of the element the cursor is on now
+	 * @throws java.util.NoSuchElementException if there is no next element
+	 */
+	@Override
+	public T next();
+	/**
+	 * Replaces the data of the element the cursor is on
+	 * @param data the data to be used
+	 * @throws IllegalStateException if the cursor is not on an element
+	 */
+	public void set(T data);
+	/**
+	 * Removes the element the cursor is on. The cursor is not on any element afterwards, the next call to <code>next</code> returns the element that came after the removed one.
+	 * @throws IllegalStateException if the cursor is not on an element
+	 */
+	@Override
+	public void remove();
+	/**
+	 * Inserts the data in front of the element the cursor is on. The cursor stays on its element, so the inserted data is not returned by <code>next</code>.
+	 * @param data the data to be inserted
+	 * @throws IllegalStateException if the cursor is not on an element
+	 */
+	public void insertBefore(T data);
+	/**
+	 * Inserts the data right after the element the cursor is on. The cursor stays on its element, so the next call to <code>next</code> returns the inserted data.
+	 * @param data the data to be inserted
+	 * @throws IllegalStateException if the cursor is not on an element
+	 */
+	public void insertAfter(T data);
+}
@@ -1,6 +1,17 @@
 package com.github.erdragh.structures;
 
-public interface IList<T> {
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public interface IList<T> extends Iterable<T> {
 	/**
 	 * Puts the data element at the end of the list
 	 * @param data the data to be used
@@ -58,6 +69,163 @@ public interface IList<T> {
 	 */
 	public void removeBefore(int i);
 
+	/**
+	 * Splits the list in two. Everything from the given index on is removed from this list and given back as a new list of the same kind, the data before the index remains.
+	 * @param i the index of the first data point that is moved to the new list. If this is out of bounds, nothing is moved and the new list is empty
+	 * @return a new list holding the data points from the index on
+	 */
+	public IList<T> splitAt(int i);
+
+	/**
+	 * Removes the elements from the first given index up to, but not including, the second one. By default the list is split at the end of the range, cut off at its beginning and the split off part is appended again, so lists that can split and link their structures do this without moving the elements after the range one by one.
+	 * @param from the index of the first element to be removed
+	 * @param to the index after the last element to be removed. If the range is not inside the list nothing is removed
+	 */
+	public default void removeRange(int from, int to) {
+		if (from < 0 || to > length() || from >= to) {
+			//Range out of bounds for the List, or empty
+			return;
+		}
+		IList<T> rest = splitAt(to);
+		if (from == 0) {
+			clear();
+		} else {
+			removeAfter(from - 1);
+		}
+		appendList(rest);
+	}
+	/**
+	 * Creates a view of the elements from the first given index up to, but not including, the second one. Nothing is copied, the view reads and changes this list directly, and everything added to or removed from the view is added to or removed from this list.
+	 * The view stays valid as long as this list is only changed through the view. It cannot be split, since its elements cannot leave this list.
+	 * @param from the index of the first element of the view
+	 * @param to the index after the last element of the view
+	 * @return a view of the range
+	 */
+	public default IList<T> subList(int from, int to) {
+		if (from < 0 || to > length() || from > to) {
+			throw new IllegalArgumentException("Illegal range: " + from + " to " + to);
+		}
+		return new SubList<T>(this, from, to - from);
+	}
+
+	/**
+	 * Puts all given data elements at the end of the list, in the order they are given in
+	 * @param data the data to be used
+	 */
+	public default void putAll(Iterable<? extends T> data) {
+		insertAll(length(), data);
+	}
+	/**
+	 * Puts all given data elements at the beginning of the list. They keep the order they are given in, so the first given element will be the first element of the list.
+	 * @param data the data to be used
+	 */
+	public default void pushAll(Iterable<? extends T> data) {
+		insertAll(0, data);
+	}
+	/**
+	 * Inserts all given data elements at the specified index, in the order they are given in. The data that was at the index and after it is pushed up behind the inserted data.
+	 * @param i the index where the first element is inserted. If this is out of bounds nothing is inserted
+	 * @param data the data to be inserted
+	 */
+	public default void insertAll(int i, Iterable<? extends T> data) {
+		if (i < 0 || i > length()) {
+			return;
+		}
+		if (data == this) {
+			//the list would grow while it is read, so it is copied first
+			ArrayRingList<T> copy = new ArrayRingList<T>(length());
+			copy.putAll(this);
+			data = copy;
+		}
+		for (T element : data) {
+			insert(i++, element);
+		}
+	}
+	/**
+	 * Moves all data of the other list to the end of this list. The other list is empty afterwards. Lists of the same kind can do this by linking their structures instead of copying every element.
+	 * @param other the list whose data is moved, this must not be this list itself
+	 */
+	public default void appendList(IList<? extends T> other) {
+		if (other == this) {
+			throw new IllegalArgumentException("A list cannot be appended to itself");
+		}
+		putAll(other);
+		other.clear();
+	}
+
+	/**
+	 * Tells whether the list holds an element equal to the given value. Elements are compared with <code>equals</code>, and <code>null</code> is equal to <code>null</code>.
+	 * By default this walks the list with a cursor, so it takes linear time, lists that index their values can answer it faster.
+	 * @param value the value to look for
+	 * @return <code>true</code> if at least one element is equal to the value
+	 */
+	public default boolean contains(Object value) {
+		return indexOf(value) >= 0;
+	}
+	/**
+	 * Finds the first element equal to the given value. By default this walks the list with a cursor until it finds the element.
+	 * @param value the value to look for
+	 * @return the index of the first equal element, or <code>-1</code> if there is none
+	 */
+	public default int indexOf(Object value) {
+		int i = 0;
+		for (T element : this) {
+			if (Objects.equals(element, value)) {
+				return i;
+			}
+			i++;
+		}
+		return -1;
+	}
+	/**
+	 * Removes the first element equal to the given value. By default this walks the list with a cursor and removes the element through it, so the list is only walked once.
+	 * @param value the value to be removed
+	 * @return <code>true</code> if an element was removed
+	 */
+	public default boolean removeFirst(Object value) {
+		ICursor<T> cursor = cursor();
+		while (cursor.hasNext()) {
+			if (Objects.equals(cursor.next(), value)) {
+				cursor.remove();
+				return true;
+			}
+		}
+		return false;
+	}
+	/**
+	 * Removes every element equal to the given value. By default this walks the list once with a cursor and removes the elements through it.
+	 * @param value the value to be removed
+	 * @return the number of removed elements
+	 */
+	public default int removeAll(Object value) {
+		int removed = 0;
+		ICursor<T> cursor = cursor();
+		while (cursor.hasNext()) {
+			if (Objects.equals(cursor.next(), value)) {
+				cursor.remove();
+				removed++;
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Sorts the list, equal elements keep their order. By default the elements are copied into an array, sorted there and written back in one pass of a cursor, which takes <code>O(n log n)</code> for every list whose cursor can change elements without looking up their index. Runs of elements that are already in order are detected, so a list that is already sorted takes linear time.
+	 * @param comparator decides the order of the elements, or <code>null</code> to use their natural order
+	 */
+	@SuppressWarnings("unchecked")
+	public default void sort(Comparator<? super T> comparator) {
+		Object[] elements = new Object[length()];
+		int[] n = new int[1];
+		forEach(element -> elements[n[0]++] = element);
+		Arrays.sort((T[]) elements, 0, n[0], comparator);
+		ICursor<T> cursor = cursor();
+		for (int i = 0; i < n[0]; i++) {
+			cursor.next();
+			cursor.set((T) elements[i]);
+		}
+	}
+
 	/**
 	 * This will completely clear the list and remove all data in it.
 	 */
@@ -68,5 +236,118 @@ public interface IList<T> {
 	 */
 	public int length();
 
-	// public IList<T> filter(Function that returns a boolean depending on two inputs of T) TODO: learn functional programming in Java
+	/**
+	 * Tells whether the list stores its elements in an array, so splitting it copies every element after the index instead of handing over a part of its structure. Decorators give back what the list they decorate tells.
+	 * @return <code>true</code> if the list is backed by an array, <code>false</code> by default
+	 */
+	public default boolean isArrayBacked() {
+		return false;
+	}
+	/**
+	 * Tells whether the list can be read while another thread changes it, as long as the result is thrown away afterwards. This is the case if reading never changes the list, only walks a bounded number of steps and only reads memory of the Java heap, so the worst that can happen is a wrong result or an exception. Lists that free or unmap native memory while they are changed cannot allow this, since such a read can crash the whole JVM. Decorators give back what the list they decorate tells.
+	 * @return <code>true</code> if reads may race changes, which is the default
+	 * @see StampedList
+	 */
+	public default boolean allowsOptimisticReads() {
+		return true;
+	}
+
+	/**
+	 * Creates a cursor that walks through the list from the beginning and can change the list on the way. Lists that cannot reach an index quickly give back a cursor that follows their structure instead of looking up every index.
+	 * The cursor expects the list to only be changed through it while it is used.
+	 * @return a cursor before the first element of the list
+	 * @see ICursor
+	 */
+	public default ICursor<T> cursor() {
+		return new IndexCursor<T>(this);
+	}
+	/**
+	 * Makes lists usable in for-each loops, this simply gives back a new cursor.
+	 * @return a cursor before the first element of the list
+	 * @see #cursor()
+	 */
+	@Override
+	public default Iterator<T> iterator() {
+		return cursor();
+	}
+	/**
+	 * Creates a spliterator over the list, which is what streams use to go through the list and to split it up for parallel processing. By default the list is split up by index, lists that cannot reach an index quickly split off batches of elements instead.
+	 * The list must not be changed while the spliterator is used.
+	 * @return a spliterator over all elements of the list
+	 */
+	@Override
+	public default Spliterator<T> spliterator() {
+		return new IndexSpliterator<T>(this, 0, length());
+	}
+	/**
+	 * Creates a sequential stream of the elements of the list
+	 * @return a stream of all elements in the order of the list
+	 */
+	public default Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+	/**
+	 * Creates a parallel stream of the elements of the list, which is split up between the workers of the common fork-join pool
+	 * @return a parallel stream of all elements in the order of the list
+	 */
+	public default Stream<T> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+
+	/**
+	 * Creates a read-only view of the elements that match the predicate. Nothing is copied, the elements are checked whenever the view is read, so changes to this list show up in the view.
+	 * @param predicate decides which elements are part of the view
+	 * @return a view of the matching elements
+	 */
+	public default IList<T> filter(Predicate<? super T> predicate) {
+		return new ListView.Filter<T>(ListView.of(this), predicate);
+	}
+	/**
+	 * Creates a read-only view of the elements converted by the function. Nothing is copied, the elements are converted whenever the view is read.
+	 * @param mapper converts an element of this list to an element of the view
+	 * @return a view of the converted elements
+	 */
+	public default <R> IList<R> map(Function<? super T, ? extends R> mapper) {
+		return new ListView.Map<T, R>(ListView.of(this), mapper);
+	}
+	/**
+	 * Creates a read-only view of at most the given number of elements from the beginning of this list.
+	 * @param n the maximum number of elements in the view
+	 * @return a view of the first elements
+	 */
+	public default IList<T> limit(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("Limit must not be negative: " + n);
+		}
+		return new ListView.Limit<T>(ListView.of(this), n);
+	}
+	/**
+	 * Creates a read-only view of this list without the given number of elements from its beginning.
+	 * @param n the number of elements to be left out
+	 * @return a view of the remaining elements
+	 */
+	public default IList<T> skip(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("Skip must not be negative: " + n);
+		}
+		return new ListView.Skip<T>(ListView.of(this), n);
+	}
+	/**
+	 * Creates a read-only view of the elements of this list followed by the elements of the other list.
+	 * @param other the list whose elements come after those of this list
+	 * @return a view of the elements of both lists
+	 */
+	public default IList<T> concat(IList<? extends T> other) {
+		return new ListView.Concat<T>(ListView.of(this), ListView.of(other));
+	}
+	/**
+	 * Copies all elements into a new list. For a chain of views this is the single pass in which all stages are computed.
+	 * @param factory creates the list the elements are put into, for example <code>SingleLinkedList::new</code>
+	 * @return the created list holding all elements
+	 */
+	public default <L extends IList<T>> L materialize(Supplier<L> factory) {
+		L list = factory.get();
+		forEach(list::put);
+		return list;
+	}
 }
@@ -0,0 +1,76 @@
+package com.github.erdragh.structures;
+
+/**
+ * A list of <code>long</code> values. It has the same methods as <code>IList</code>, but stores the values directly, so none of them are ever boxed.
+ * @author Erdragh
+ * @version 1.0
+ * @see IList
+ */
+public interface ILongList {
+	/**
+	 * Puts the value at the end of the list
+	 * @param data the value to be used
+	 */
+	public void put(long data);
+	/**
+	 * Puts the value at the beginning of the list
+	 * @param data the value to be used
+	 */
+	public void push(long data);
+	/**
+	 * Gives back the value at the end of the list and deletes the element
+	 * @return the value of the last list element, or <code>0</code> if the list is empty
+	 */
+	public long takeLong();
+	/**
+	 * Gives back the value of the first element of the list and deletes the element
+	 * @return the value of the list's first element, or <code>0</code> if the list is empty
+	 */
+	public long pullLong();
+
+	/**
+	 * Returns the value at the given index
+	 * @param i the index from where the value will be given
+	 * @return the value that will be given, or <code>0</code> if the index is out of bounds
+	 */
+	public long getLong(int i);
+	/**
+	 * Sets the value at the specified index to be the given. This will replace the old value. To insert the value instead, use the insert method
+	 * @param i the index where the value will be replaced
+	 * @param data the value that will be used to replace
+	 */
+	public void set(int i, long data);
+
+	/**
+	 * Removes the element at the specified index
+	 * @param i the index of the element to be removed
+	 */
+	public void remove(int i);
+	/**
+	 * Inserts the value at the specified index, this will push the other indexes one up and therefore does not delete another value. To replace a value look at the set method
+	 * @param i the index where the value will be inserted
+	 * @param data the value to be inserted
+	 */
+	public void insert(int i, long data);
+
+	/**
+	 * This will remove all the values after the given index. The value at the index will remain.
+	 * @param i the index after which everything will be removed
+	 */
+	public void removeAfter(int i);
+	/**
+	 * This will remove all the values before the given index. The value at the index will remain.
+	 * @param i the index before which everything will be removed
+	 */
+	public void removeBefore(int i);
+
+	/**
+	 * This will completely clear the list and remove all values in it.
+	 */
+	public void clear();
+	/**
+	 * A basic method returning the length of the list
+	 * @return the count of all values in the list
+	 */
+	public int length();
+}
@@ -0,0 +1,18 @@
+package com.github.erdragh.structures;
+
+/**
+ * Receives every measured call of an <code>InstrumentedIList</code>, for example to pass it on to a metrics library. It is called by the thread that made the call, right after the call returned, so it should be quick.
+ * @author Erdragh
+ * @version 1.0
+ * @see InstrumentedIList
+ */
+public interface IMetricsSink {
+	/**
+	 * Records one call
+	 * @param operation the method that was called
+	 * @param nanos how long the call took in nanoseconds
+	 * @param steps how many nodes the call walked, or <code>-1</code> if the list does not tell
+	 * @param length the length of the list after the call
+	 */
+	public void record(ListOperation operation, long nanos, int steps, int length);
+}
@@ -0,0 +1,89 @@
+package com.github.erdragh.structures;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts data elements to records of a fixed number of bytes and back. This is used by lists that do not store their elements as objects.
+ * @author Erdragh
+ * @version 1.0
+ * @see OffHeapList
+ */
+public interface IRecordCodec<T> {
+	/**
+	 * A codec storing <code>Long</code> elements in 8 bytes
+	 */
+	public static final IRecordCodec<Long> LONGS = new IRecordCodec<Long>() {
+		@Override
+		public int width() {
+			return Long.BYTES;
+		}
+
+		@Override
+		public void encode(Long data, ByteBuffer buffer, int offset) {
+			buffer.putLong(offset, data);
+		}
+
+		@Override
+		public Long decode(ByteBuffer buffer, int offset) {
+			return buffer.getLong(offset);
+		}
+	};
+	/**
+	 * A codec storing <code>Integer</code> elements in 4 bytes
+	 */
+	public static final IRecordCodec<Integer> INTEGERS = new IRecordCodec<Integer>() {
+		@Override
+		public int width() {
+			return Integer.BYTES;
+		}
+
+		@Override
+		public void encode(Integer data, ByteBuffer buffer, int offset) {
+			buffer.putInt(offset, data);
+		}
+
+		@Override
+		public Integer decode(ByteBuffer buffer, int offset) {
+			return buffer.getInt(offset);
+		}
+	};
+	/**
+	 * A codec storing <code>Double</code> elements in 8 bytes
+	 */
+	public static final IRecordCodec<Double> DOUBLES = new IRecordCodec<Double>() {
+		@Override
+		public int width() {
+			return Double.BYTES;
+		}
+
+		@Override
+		public void encode(Double data, ByteBuffer buffer, int offset) {
+			buffer.putDouble(offset, data);
+		}
+
+		@Override
+		public Double decode(ByteBuffer buffer, int offset) {
+			return buffer.getDouble(offset);
+		}
+	};
+
+	/**
+	 * The number of bytes every record takes. This has to be the same for every element.
+	 * @return the width of a record in bytes
+	 */
+	public int width();
+	/**
+	 * Writes the data element as a record into the buffer. This must only use the absolute methods of the buffer and must not write more than <code>width()</code> bytes.
+	 * @param data the data element to be written, this is never <code>null</code>
+	 * @param buffer the buffer to write into
+	 * @param offset the position in the buffer where the record starts
+	 */
+	public void encode(T data, ByteBuffer buffer, int offset);
+	/**
+	 * Reads a data element back from a record. This must only use the absolute methods of the buffer.
+	 * @param buffer the buffer to read from
+	 * @param offset the position in the buffer where the record starts
+	 * @return the data element stored in the record
+	 */
+	public T decode(ByteBuffer buffer, int offset);
+}
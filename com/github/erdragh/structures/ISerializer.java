@@ -0,0 +1,118 @@
+package com.github.erdragh.structures;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts data elements to bytes and back, where every element may need a different number of bytes. The bytes are written to and read from buffers at absolute offsets, so a list can hand out its memory-mapped buffers directly.
+ * @author Erdragh
+ * @version 1.0
+ * @see MappedFileList
+ * @see IRecordCodec
+ */
+public interface ISerializer<T> {
+	/**
+	 * A serializer storing <code>String</code> elements as UTF-8. Characters that cannot be encoded, like unpaired surrogates, are stored as <code>'?'</code>, just like <code>String.getBytes</code> does.
+	 */
+	public static final ISerializer<String> STRINGS = new ISerializer<String>() {
+		@Override
+		public int size(String data) {
+			int size = 0;
+			for (int i = 0; i < data.length(); i++) {
+				char c = data.charAt(i);
+				if (c < 0x80) {
+					size += 1;
+				} else if (c < 0x800) {
+					size += 2;
+				} else if (Character.isHighSurrogate(c) && i + 1 < data.length() && Character.isLowSurrogate(data.charAt(i + 1))) {
+					//a pair of surrogates is one code point of four bytes
+					size += 4;
+					i++;
+				} else if (Character.isSurrogate(c)) {
+					size += 1;
+				} else {
+					size += 3;
+				}
+			}
+			return size;
+		}
+
+		@Override
+		public void write(String data, ByteBuffer buffer, int offset) {
+			for (int i = 0; i < data.length(); i++) {
+				char c = data.charAt(i);
+				if (c < 0x80) {
+					buffer.put(offset++, (byte) c);
+				} else if (c < 0x800) {
+					buffer.put(offset++, (byte) (0xC0 | c >> 6));
+					buffer.put(offset++, (byte) (0x80 | c & 0x3F));
+				} else if (Character.isHighSurrogate(c) && i + 1 < data.length() && Character.isLowSurrogate(data.charAt(i + 1))) {
+					int codePoint = Character.toCodePoint(c, data.charAt(++i));
+					buffer.put(offset++, (byte) (0xF0 | codePoint >> 18));
+					buffer.put(offset++, (byte) (0x80 | codePoint >> 12 & 0x3F));
+					buffer.put(offset++, (byte) (0x80 | codePoint >> 6 & 0x3F));
+					buffer.put(offset++, (byte) (0x80 | codePoint & 0x3F));
+				} else if (Character.isSurrogate(c)) {
+					buffer.put(offset++, (byte) '?');
+				} else {
+					buffer.put(offset++, (byte) (0xE0 | c >> 12));
+					buffer.put(offset++, (byte) (0x80 | c >> 6 & 0x3F));
+					buffer.put(offset++, (byte) (0x80 | c & 0x3F));
+				}
+			}
+		}
+
+		@Override
+		public String read(ByteBuffer buffer, int offset, int length) {
+			byte[] bytes = new byte[length];
+			buffer.get(offset, bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	};
+
+	/**
+	 * Creates a serializer from a codec for fixed width records, so every element takes the width of the codec
+	 * @param codec the codec to use
+	 * @return a serializer using the codec
+	 */
+	public static <T> ISerializer<T> of(IRecordCodec<T> codec) {
+		return new ISerializer<T>() {
+			@Override
+			public int size(T data) {
+				return codec.width();
+			}
+
+			@Override
+			public void write(T data, ByteBuffer buffer, int offset) {
+				codec.encode(data, buffer, offset);
+			}
+
+			@Override
+			public T read(ByteBuffer buffer, int offset, int length) {
+				return codec.decode(buffer, offset);
+			}
+		};
+	}
+
+	/**
+	 * Tells how many bytes an element takes
+	 * @param data the element, this is never <code>null</code>
+	 * @return the number of bytes <code>write</code> writes for it
+	 */
+	public int size(T data);
+	/**
+	 * Writes an element into the buffer without changing the position of the buffer
+	 * @param data the element, this is never <code>null</code>
+	 * @param buffer the buffer to write to
+	 * @param offset the index of the first byte to write
+	 */
+	public void write(T data, ByteBuffer buffer, int offset);
+	/**
+	 * Reads an element from the buffer without changing the position of the buffer
+	 * @param buffer the buffer to read from
+	 * @param offset the index of the first byte of the element
+	 * @param length the number of bytes of the element, as given by <code>size</code> when it was written
+	 * @return the element
+	 */
+	public T read(ByteBuffer buffer, int offset, int length);
+}
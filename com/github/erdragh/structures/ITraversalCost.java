@@ -0,0 +1,18 @@
+package com.github.erdragh.structures;
+
+/**
+ * Implemented by lists that walk their structure to reach an index, so they can tell how far a call is going to walk before it is made. <code>InstrumentedIList</code> uses this to record the nodes traversed per call.
+ * @author Erdragh
+ * @version 1.0
+ * @see InstrumentedIList
+ */
+public interface ITraversalCost {
+	/**
+	 * Tells how many nodes a call would walk if it was made now. This must not walk the list itself.
+	 * If the walk depends on more than the given index, like the end of a range or where a value is found, the most it could walk is given, for the methods looking for a value this is the length of the list. <code>0</code> is only given for calls that do not walk at all.
+	 * @param operation the method to be called
+	 * @param i the index the method would be called with, this is ignored by methods without an index
+	 * @return the number of nodes the call would walk past, <code>0</code> if it would not walk at all
+	 */
+	public int traversalCost(ListOperation operation, int i);
+}
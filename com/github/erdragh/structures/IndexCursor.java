@@ -0,0 +1,85 @@
+package com.github.erdragh.structures;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A cursor that goes through a list by index using its positional methods. This is what lists use that can reach any index quickly, lists that cannot should have a cursor of their own.
+ * @author Erdragh
+ * @version 1.0
+ * @see ICursor
+ */
+class IndexCursor<T> implements ICursor<T> {
+
+	/**
+	 * The list the cursor goes through
+	 */
+	private final IList<T> list;
+	/**
+	 * The index of the element the next call to <code>next</code> returns
+	 */
+	private int index;
+	/**
+	 * The index of the element the cursor is on, or -1 if it is not on an element
+	 */
+	private int current = -1;
+
+	/**
+	 * Creates a cursor before the first element of the list
+	 * @param list the list the cursor goes through
+	 */
+	IndexCursor(IList<T> list) {
+		this.list = list;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return index < list.length();
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		current = index++;
+		return list.get(current);
+	}
+
+	@Override
+	public void set(T data) {
+		checkCurrent();
+		list.set(current, data);
+	}
+
+	@Override
+	public void remove() {
+		checkCurrent();
+		list.remove(current);
+		//the element after the removed one has moved to its index
+		index = current;
+		current = -1;
+	}
+
+	@Override
+	public void insertBefore(T data) {
+		checkCurrent();
+		list.insert(current, data);
+		current++;
+		index++;
+	}
+
+	@Override
+	public void insertAfter(T data) {
+		checkCurrent();
+		list.insert(current + 1, data);
+	}
+
+	/**
+	 * Makes sure the cursor is on an element
+	 */
+	private void checkCurrent() {
+		if (current < 0) {
+			throw new IllegalStateException("The cursor is not on an element");
+		}
+	}
+}
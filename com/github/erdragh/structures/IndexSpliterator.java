@@ -0,0 +1,75 @@
+package com.github.erdragh.structures;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator that goes through a range of a list by index. Splitting it simply halves the range, which gives perfectly balanced parts for lists that can reach any index quickly.
+ * @author Erdragh
+ * @version 1.0
+ * @see IList#spliterator()
+ */
+class IndexSpliterator<T> implements Spliterator<T> {
+
+	/**
+	 * The list the spliterator goes through
+	 */
+	private final IList<T> list;
+	/**
+	 * The index of the next element
+	 */
+	private int index;
+	/**
+	 * The index after the last element of the range
+	 */
+	private final int fence;
+
+	/**
+	 * Creates a spliterator over a range of the list
+	 * @param list the list the spliterator goes through
+	 * @param index the index of the first element of the range
+	 * @param fence the index after the last element of the range
+	 */
+	IndexSpliterator(IList<T> list, int index, int fence) {
+		this.list = list;
+		this.index = index;
+		this.fence = fence;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if (index >= fence) {
+			return false;
+		}
+		action.accept(list.get(index++));
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		for (; index < fence; index++) {
+			action.accept(list.get(index));
+		}
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		int middle = (index + fence) >>> 1;
+		if (middle <= index) {
+			return null;
+		}
+		Spliterator<T> prefix = new IndexSpliterator<T>(list, index, middle);
+		index = middle;
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		return fence - index;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | SIZED | SUBSIZED;
+	}
+}
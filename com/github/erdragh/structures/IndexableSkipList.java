@@ -0,0 +1,348 @@
+package com.github.erdragh.structures;
+
+import java.util.Arrays;
+
+/**
+ * An implementation of a list as an indexable skip list. Besides the link to the next node every node has links that skip over many nodes, and every link stores how many positions it spans. This way any index can be found by skipping over large parts of the list, which makes every positional operation run in expected logarithmic time.
+ * @author Erdragh
+ * @version 1.0
+ * @see Node
+ */
+
+public class IndexableSkipList<T> implements IList<T> {
+
+	/**
+	 * The maximum number of levels of links. With every level being a quarter as dense as the one below, this is enough for any list an <code>int</code> can index.
+	 */
+	private static final int MAX_LEVEL = 16;
+
+	/**
+	 * The head node, which stores no data. It is at position 0, the elements are at the positions 1 to <code>size</code> and the end of the list, where the last links point to <code>null</code>, is at position <code>size + 1</code>.
+	 */
+	private final Node head = new Node(null, MAX_LEVEL);
+	/**
+	 * The number of levels currently in use, at least one
+	 */
+	private int level = 1;
+	/**
+	 * The number of elements in the list.
+	 */
+	private int size;
+	/**
+	 * The state of the random number generator that decides how many levels a new node gets
+	 */
+	private int seed = 0x2545F491;
+	/**
+	 * The nodes found by the last call to <code>seek</code>, one for every level
+	 */
+	private final Node[] update = new Node[MAX_LEVEL];
+	/**
+	 * The positions of the nodes in <code>update</code>
+	 */
+	private final int[] updatePosition = new int[MAX_LEVEL];
+
+	/**
+	 * A simple constructor creating an empty list
+	 */
+	public IndexableSkipList() {
+		head.width[0] = 1;
+	}
+
+	/**
+	 * A node of the list structure, storing a data element and its links on every level it takes part in.
+	 */
+	private static class Node {
+		/**
+		 * The data element stored in the node
+		 */
+		private Object data;
+		/**
+		 * The next node on every level, <code>null</code> if the link goes to the end of the list
+		 */
+		private final Node[] next;
+		/**
+		 * The number of positions every link spans
+		 */
+		private final int[] width;
+
+		/**
+		 * A simple constructor for a node
+		 * @param data the data stored in the node
+		 * @param levels the number of levels the node takes part in
+		 */
+		public Node(Object data, int levels) {
+			this.data = data;
+			this.next = new Node[levels];
+			this.width = new int[levels];
+		}
+	}
+
+	/**
+	 * Walks down the levels to the last node whose position is at most the target position. On every level the last node that was reached and its position are remembered in <code>update</code> and <code>updatePosition</code>, since these are the nodes whose links change when the list is changed at that point.
+	 * @param target the position to walk to, positions are the index plus one
+	 * @return the node at the target position, or the closest one before it
+	 */
+	private Node seek(int target) {
+		Node node = head;
+		int position = 0;
+		for (int l = level - 1; l >= 0; l--) {
+			while (node.next[l] != null && position + node.width[l] <= target) {
+				position += node.width[l];
+				node = node.next[l];
+			}
+			update[l] = node;
+			updatePosition[l] = position;
+		}
+		return node;
+	}
+
+	/**
+	 * Walks down the levels to the node at the target position, just like <code>seek</code>, but without remembering the nodes on the way. This way reading never changes any state of the list.
+	 * @param target the position to walk to, positions are the index plus one
+	 * @return the node at the target position
+	 */
+	private Node find(int target) {
+		Node node = head;
+		int position = 0;
+		for (int l = level - 1; l >= 0; l--) {
+			while (node.next[l] != null && position + node.width[l] <= target) {
+				position += node.width[l];
+				node = node.next[l];
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Decides how many levels a new node takes part in. Every additional level is taken with a probability of one quarter.
+	 * @return the number of levels, at least one
+	 */
+	private int randomLevel() {
+		//xorshift, this does not need to be a good random number generator, just a fast one
+		seed ^= seed << 13;
+		seed ^= seed >>> 17;
+		seed ^= seed << 5;
+		int levels = 1 + Integer.numberOfTrailingZeros(seed | 1 << 2 * (MAX_LEVEL - 1)) / 2;
+		return Math.min(levels, MAX_LEVEL);
+	}
+
+	/**
+	 * Removes levels from the top that do not contain any nodes anymore
+	 */
+	private void lowerLevel() {
+		while (level > 1 && head.next[level - 1] == null) {
+			level--;
+		}
+	}
+
+	@Override
+	public void put(T data) {
+		insert(size, data);
+	}
+
+	@Override
+	public void push(T data) {
+		insert(0, data);
+	}
+
+	@Override
+	public T take() {
+		if (size == 0) {
+			return null;
+		}
+		T data = get(size - 1);
+		remove(size - 1);
+		return data;
+	}
+
+	@Override
+	public T pull() {
+		if (size == 0) {
+			return null;
+		}
+		T data = get(0);
+		remove(0);
+		return data;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return null;
+		}
+		return (T) find(i + 1).data;
+	}
+
+	@Override
+	public void set(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == size) {
+			//the index is immediately after the end, so the data is added as a new element
+			put(data);
+		} else {
+			find(i + 1).data = data;
+		}
+	}
+
+	@Override
+	public void remove(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return;
+		}
+		Node removed = seek(i).next[0];
+		for (int l = 0; l < level; l++) {
+			if (update[l].next[l] == removed) {
+				//the link skips the removed node now and spans its positions as well
+				update[l].width[l] += removed.width[l] - 1;
+				update[l].next[l] = removed.next[l];
+			} else {
+				//the link jumps over the removed node, so it spans one position less
+				update[l].width[l]--;
+			}
+		}
+		size--;
+		lowerLevel();
+	}
+
+	@Override
+	public void insert(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		int levels = randomLevel();
+		if (levels > level) {
+			//the new levels start out with a single link from the head to the end of the list
+			for (int l = level; l < levels; l++) {
+				head.next[l] = null;
+				head.width[l] = size + 1;
+			}
+			level = levels;
+		}
+		seek(i);
+		Node node = new Node(data, levels);
+		int position = i + 1;
+		for (int l = 0; l < level; l++) {
+			if (l < levels) {
+				//the new node takes over the rest of the link, which now spans one more position since the node was added
+				node.next[l] = update[l].next[l];
+				node.width[l] = updatePosition[l] + update[l].width[l] + 1 - position;
+				update[l].next[l] = node;
+				update[l].width[l] = position - updatePosition[l];
+			} else {
+				//the link jumps over the new node, so it spans one position more
+				update[l].width[l]++;
+			}
+		}
+		size++;
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		if (i < 0 || i >= size) {
+			//Do nothing, since index i is out of bounds for the List
+			return;
+		}
+		//cuts every level after the last node that is kept, which only touches one node per level
+		seek(i + 1);
+		for (int l = 0; l < level; l++) {
+			update[l].next[l] = null;
+			update[l].width[l] = i + 2 - updatePosition[l];
+		}
+		size = i + 1;
+		lowerLevel();
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		if (i < 0 || i >= size) {
+			//if the index is out of bounds the whole list is removed, just like in the other lists
+			clear();
+			return;
+		}
+		//links the head directly to the first kept node on every level, which only touches one node per level
+		seek(i);
+		for (int l = 0; l < level; l++) {
+			head.width[l] = updatePosition[l] + update[l].width[l] - i;
+			head.next[l] = update[l].next[l];
+		}
+		size -= i;
+		lowerLevel();
+	}
+
+	@Override
+	public IndexableSkipList<T> splitAt(int i) {
+		IndexableSkipList<T> tail = new IndexableSkipList<T>();
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List, or there is nothing after it
+			return tail;
+		}
+		//the head of the new list takes over every link that crosses the cut, which only touches one node per level
+		seek(i);
+		for (int l = 0; l < level; l++) {
+			tail.head.next[l] = update[l].next[l];
+			tail.head.width[l] = updatePosition[l] + update[l].width[l] - i;
+			update[l].next[l] = null;
+			update[l].width[l] = i + 1 - updatePosition[l];
+		}
+		tail.level = level;
+		tail.size = size - i;
+		size = i;
+		lowerLevel();
+		tail.lowerLevel();
+		return tail;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void appendList(IList<? extends T> other) {
+		if (!(other instanceof IndexableSkipList)) {
+			IList.super.appendList(other);
+			return;
+		}
+		if (other == this) {
+			throw new IllegalArgumentException("A list cannot be appended to itself");
+		}
+		IndexableSkipList<T> list = (IndexableSkipList<T>) other;
+		if (list.level > level) {
+			for (int l = level; l < list.level; l++) {
+				head.next[l] = null;
+				head.width[l] = size + 1;
+			}
+			level = list.level;
+		}
+		//the last node of every level is linked to the first node the other list has on that level, which only touches one node per level
+		seek(size);
+		for (int l = 0; l < level; l++) {
+			if (l < list.level) {
+				update[l].next[l] = list.head.next[l];
+				update[l].width[l] = size - updatePosition[l] + list.head.width[l];
+			} else {
+				update[l].width[l] += list.size;
+			}
+		}
+		size += list.size;
+		list.clear();
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(head.next, null);
+		Arrays.fill(update, null);
+		head.width[0] = 1;
+		level = 1;
+		size = 0;
+	}
+
+	@Override
+	public int length() {
+		return size;
+	}
+
+}
@@ -0,0 +1,505 @@
+package com.github.erdragh.structures;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Consumer;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * A decorator that measures every call to a list. For each operation it records the number of calls and a histogram of their latencies, and if the list implements <code>ITraversalCost</code>, also how many nodes each call walked. The length of the list after each call is recorded as well.
+ * The metrics can be read directly through <code>metrics</code>, watched over JMX after <code>register</code>, or passed on to an <code>IMetricsSink</code>. Every call also creates a <code>com.github.erdragh.structures.ListOperation</code> Flight Recorder event, which costs nothing unless a recording enables it.
+ * <p>
+ * While measuring is disabled, each call only reads one volatile field before it is passed on to the list. Cursors, spliterators, <code>forEach</code> and <code>sort</code> are passed on to the list and not measured.
+ * <p>
+ * The decorator is as thread-safe as the list it decorates, the metrics themselves can be recorded and read by any number of threads.
+ * @author Erdragh
+ * @version 1.0
+ * @see ListOperation
+ * @see OperationMetrics
+ */
+
+public class InstrumentedIList<T> implements IList<T>, InstrumentedIListMBean {
+
+	/**
+	 * The list that actually stores the data
+	 */
+	private final IList<T> list;
+	/**
+	 * The list as <code>ITraversalCost</code> if it implements it, <code>null</code> otherwise
+	 */
+	private final ITraversalCost cost;
+	/**
+	 * Receives every measured call, or <code>null</code>
+	 */
+	private final IMetricsSink sink;
+	/**
+	 * The metrics of every operation, at the ordinal of the operation
+	 */
+	private final OperationMetrics[] metrics;
+	/**
+	 * The largest length of the list after a measured call
+	 */
+	private final LongAccumulator maxLength = new LongAccumulator(Math::max, 0);
+	/**
+	 * Whether calls are measured
+	 */
+	private volatile boolean enabled = true;
+	/**
+	 * The name the list is registered under with JMX, or <code>null</code> if it is not registered
+	 */
+	private ObjectName name;
+
+	/**
+	 * Creates a decorator that measures the given list
+	 * @param list the list that stores the data, it must not be used directly anymore, otherwise those calls are not measured
+	 */
+	public InstrumentedIList(IList<T> list) {
+		this(list, null);
+	}
+
+	/**
+	 * Creates a decorator that measures the given list and passes every call on to the sink
+	 * @param list the list that stores the data, it must not be used directly anymore, otherwise those calls are not measured
+	 * @param sink receives every measured call, or <code>null</code>
+	 */
+	public InstrumentedIList(IList<T> list, IMetricsSink sink) {
+		this.list = list;
+		this.cost = list instanceof ITraversalCost ? (ITraversalCost) list : null;
+		this.sink = sink;
+		ListOperation[] operations = ListOperation.values();
+		metrics = new OperationMetrics[operations.length];
+		for (int i = 0; i < operations.length; i++) {
+			metrics[i] = new OperationMetrics();
+		}
+	}
+
+	/**
+	 * Gives back what has been recorded for an operation
+	 * @param operation the operation
+	 * @return the metrics of the operation
+	 */
+	public OperationMetrics metrics(ListOperation operation) {
+		return metrics[operation.ordinal()];
+	}
+
+	/**
+	 * Makes the metrics of this list available over JMX, under the name <code>com.github.erdragh.structures:type=InstrumentedIList,name=</code> followed by the given name
+	 * @param name a name that tells the lists apart
+	 * @return the full name the list is registered under
+	 */
+	public synchronized ObjectName register(String name) {
+		unregister();
+		try {
+			ObjectName objectName = new ObjectName("com.github.erdragh.structures:type=InstrumentedIList,name=" + ObjectName.quote(name));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+			this.name = objectName;
+			return objectName;
+		} catch (JMException e) {
+			throw new IllegalStateException("The list could not be registered as " + name, e);
+		}
+	}
+
+	/**
+	 * Removes the list from JMX again. This does nothing if it is not registered.
+	 */
+	public synchronized void unregister() {
+		if (name == null) {
+			return;
+		}
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+		} catch (JMException e) {
+			throw new IllegalStateException("The list could not be unregistered", e);
+		} finally {
+			name = null;
+		}
+	}
+
+	/**
+	 * Starts measuring a call
+	 * @param operation the method that is called
+	 * @param i the index it is called with, or <code>-1</code> if it has none
+	 * @return the event that collects the measurement
+	 */
+	private ListOperationEvent begin(ListOperation operation, int i) {
+		ListOperationEvent event = new ListOperationEvent();
+		event.type = operation;
+		event.operation = operation.name();
+		event.index = i;
+		//the cost has to be known before the call, since the call changes the list
+		event.steps = cost == null ? -1 : cost.traversalCost(operation, i);
+		event.before = list.length();
+		event.begin();
+		event.started = System.nanoTime();
+		return event;
+	}
+
+	/**
+	 * Finishes measuring a call and records it everywhere
+	 * @param event the event returned by <code>begin</code>
+	 */
+	private void end(ListOperationEvent event) {
+		long nanos = System.nanoTime() - event.started;
+		event.end();
+		int length = list.length();
+		//the walked nodes are compared to the length before the call, since removing calls walk the list as it was
+		metrics[event.type.ordinal()].record(nanos, event.steps, event.before);
+		maxLength.accumulate(length);
+		if (sink != null) {
+			sink.record(event.type, nanos, event.steps, length);
+		}
+		if (event.shouldCommit()) {
+			event.length = length;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void put(T data) {
+		if (!enabled) {
+			list.put(data);
+			return;
+		}
+		ListOperationEvent event = begin(ListOperation.PUT, -1);
+		list.put(data);
+		end(event);
+	}
+
+	@Override
+	public void push(T data) {
+		if (!enabled) {
+			list.push(data);
+			return;
+		}
+		ListOperationEvent event = begin(ListOperation.PUSH, -1);
+		list.push(data);
+		end(event);
+	}
+
+	@Override
+	public T take() {
+		if (!enabled) {
+			return list.take();
+		}
+		ListOperationEvent event = begin(ListOperation.TAKE, -1);
+		T data = list.take();
+		end(event);
+		return data;
+	}
+
+	@Override
+	public T pull() {
+		if (!enabled) {
+			return list.pull();
+		}
+		ListOperationEvent event = begin(ListOperation.PULL, -1);
+		T data = list.pull();
+		end(event);
+		return data;
+	}
+
+	@Override
+	public T get(int i) {
+		if (!enabled) {
+			return list.get(i);
+		}
+		ListOperationEvent event = begin(ListOperation.GET, i);
+		T data = list.get(i);
+		end(event);
+		return data;
+	}
+
+	@Override
+	public void set(int i, T data) {
+		if (!enabled) {
+			list.set(i, data);
+			return;
+		}
+		ListOperationEvent event = begin(ListOperation.SET, i);
+		list.set(i, data);
+		end(event);
+	}
+
+	@Override
+	public void remove(int i) {
+		if (!enabled) {
+			list.remove(i);
+			return;
+		}
+		ListOperationEvent event = begin(ListOperation.REMOVE, i);
+		list.remove(i);
+		end(event);
+	}
+
+	@Override
+	public void insert(int i, T data) {
+		if (!enabled) {
+			list.insert(i, data);
+			return;
+		}
+		ListOperationEvent event = begin(ListOperation.INSERT, i);
+		list.insert(i, data);
+		end(event);
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		if (!enabled) {
+			list.removeAfter(i);
+			return;
+		}
+		ListOperationEvent event = begin(ListOperation.REMOVE_AFTER, i);
+		list.removeAfter(i);
+		end(event);
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		if (!enabled) {
+			list.removeBefore(i);
+			return;
+		}
+		ListOperationEvent event = begin(ListOperation.REMOVE_BEFORE, i);
+		list.removeBefore(i);
+		end(event);
+	}
+
+	@Override
+	public void removeRange(int from, int to) {
+		if (!enabled) {
+			list.removeRange(from, to);
+			return;
+		}
+		ListOperationEvent event = begin(ListOperation.REMOVE_RANGE, from);
+		list.removeRange(from, to);
+		end(event);
+	}
+
+	@Override
+	public InstrumentedIList<T> splitAt(int i) {
+		boolean measured = enabled;
+		IList<T> tail;
+		if (measured) {
+			ListOperationEvent event = begin(ListOperation.SPLIT_AT, i);
+			tail = list.splitAt(i);
+			end(event);
+		} else {
+			tail = list.splitAt(i);
+		}
+		//the new list reports to the same sink and is measured only if this one is, but it is not registered with JMX
+		InstrumentedIList<T> instrumented = new InstrumentedIList<T>(tail, sink);
+		instrumented.enabled = measured;
+		return instrumented;
+	}
+
+	@Override
+	public void insertAll(int i, Iterable<? extends T> data) {
+		if (data == this) {
+			//the list itself is given as data, which the list below cannot recognize anymore
+			data = list;
+		}
+		if (!enabled) {
+			list.insertAll(i, data);
+			return;
+		}
+		ListOperationEvent event = begin(ListOperation.INSERT_ALL, i);
+		list.insertAll(i, data);
+		end(event);
+	}
+
+	@Override
+	public void appendList(IList<? extends T> other) {
+		if (other == this) {
+			throw new IllegalArgumentException("A list cannot be appended to itself");
+		}
+		if (other instanceof InstrumentedIList) {
+			//the decorated list can be linked directly if it is of the same kind as this one
+			other = ((InstrumentedIList<? extends T>) other).list;
+		}
+		if (!enabled) {
+			list.appendList(other);
+			return;
+		}
+		ListOperationEvent event = begin(ListOperation.APPEND_LIST, -1);
+		list.appendList(other);
+		end(event);
+	}
+
+	@Override
+	public void clear() {
+		if (!enabled) {
+			list.clear();
+			return;
+		}
+		ListOperationEvent event = begin(ListOperation.CLEAR, -1);
+		list.clear();
+		end(event);
+	}
+
+	@Override
+	public int length() {
+		if (!enabled) {
+			return list.length();
+		}
+		ListOperationEvent event = begin(ListOperation.LENGTH, -1);
+		int length = list.length();
+		end(event);
+		return length;
+	}
+
+	@Override
+	public boolean contains(Object value) {
+		if (!enabled) {
+			return list.contains(value);
+		}
+		ListOperationEvent event = begin(ListOperation.CONTAINS, -1);
+		boolean contains = list.contains(value);
+		end(event);
+		return contains;
+	}
+
+	@Override
+	public int indexOf(Object value) {
+		if (!enabled) {
+			return list.indexOf(value);
+		}
+		ListOperationEvent event = begin(ListOperation.INDEX_OF, -1);
+		int index = list.indexOf(value);
+		end(event);
+		return index;
+	}
+
+	@Override
+	public boolean removeFirst(Object value) {
+		if (!enabled) {
+			return list.removeFirst(value);
+		}
+		ListOperationEvent event = begin(ListOperation.REMOVE_FIRST, -1);
+		boolean removed = list.removeFirst(value);
+		end(event);
+		return removed;
+	}
+
+	@Override
+	public int removeAll(Object value) {
+		if (!enabled) {
+			return list.removeAll(value);
+		}
+		ListOperationEvent event = begin(ListOperation.REMOVE_ALL, -1);
+		int removed = list.removeAll(value);
+		end(event);
+		return removed;
+	}
+
+	@Override
+	public void forEach(Consumer<? super T> action) {
+		list.forEach(action);
+	}
+
+	@Override
+	public void sort(Comparator<? super T> comparator) {
+		list.sort(comparator);
+	}
+
+	@Override
+	public ICursor<T> cursor() {
+		return list.cursor();
+	}
+
+	@Override
+	public Spliterator<T> spliterator() {
+		return list.spliterator();
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@Override
+	public int getLength() {
+		return list.length();
+	}
+
+	@Override
+	public long getMaxLength() {
+		return maxLength.get();
+	}
+
+	@Override
+	public String[] getOperations() {
+		ListOperation[] operations = ListOperation.values();
+		String[] names = new String[operations.length];
+		for (int i = 0; i < operations.length; i++) {
+			names[i] = operations[i].name();
+		}
+		return names;
+	}
+
+	@Override
+	public long getCount(String operation) {
+		return metrics(ListOperation.valueOf(operation)).count();
+	}
+
+	@Override
+	public double getMeanNanos(String operation) {
+		return metrics(ListOperation.valueOf(operation)).latency().mean();
+	}
+
+	@Override
+	public long getPercentileNanos(String operation, double percentile) {
+		return metrics(ListOperation.valueOf(operation)).latency().percentile(percentile);
+	}
+
+	@Override
+	public long getMaxNanos(String operation) {
+		return metrics(ListOperation.valueOf(operation)).latency().max();
+	}
+
+	@Override
+	public double getMeanSteps(String operation) {
+		return metrics(ListOperation.valueOf(operation)).meanSteps();
+	}
+
+	@Override
+	public long getMaxSteps(String operation) {
+		return metrics(ListOperation.valueOf(operation)).maxSteps();
+	}
+
+	@Override
+	public double getStepRatio(String operation) {
+		return metrics(ListOperation.valueOf(operation)).stepRatio();
+	}
+
+	@Override
+	public void reset() {
+		for (OperationMetrics operation : metrics) {
+			operation.reset();
+		}
+		maxLength.reset();
+	}
+
+	@Override
+	public boolean isArrayBacked() {
+		return list.isArrayBacked();
+	}
+
+	@Override
+	public boolean allowsOptimisticReads() {
+		return list.allowsOptimisticReads();
+	}
+
+}
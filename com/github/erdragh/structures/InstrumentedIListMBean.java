@@ -0,0 +1,76 @@
+package com.github.erdragh.structures;
+
+/**
+ * The management interface of an <code>InstrumentedIList</code>, so its metrics can be watched with JMX tools like JConsole. Operations are given by their name in <code>ListOperation</code>, for example <code>"GET"</code>.
+ * @author Erdragh
+ * @version 1.0
+ * @see InstrumentedIList#register(String)
+ */
+public interface InstrumentedIListMBean {
+	/**
+	 * A getter method
+	 * @return <code>true</code> if calls are measured
+	 */
+	public boolean isEnabled();
+	/**
+	 * Turns measuring on or off
+	 * @param enabled <code>true</code> to measure calls
+	 */
+	public void setEnabled(boolean enabled);
+	/**
+	 * A getter method
+	 * @return the current length of the list
+	 */
+	public int getLength();
+	/**
+	 * A getter method
+	 * @return the largest length the list had after a measured call
+	 */
+	public long getMaxLength();
+	/**
+	 * A getter method
+	 * @return the names of all operations that can be asked for
+	 */
+	public String[] getOperations();
+	/**
+	 * @param operation the name of the operation
+	 * @return the number of measured calls
+	 */
+	public long getCount(String operation);
+	/**
+	 * @param operation the name of the operation
+	 * @return the average latency in nanoseconds
+	 */
+	public double getMeanNanos(String operation);
+	/**
+	 * @param operation the name of the operation
+	 * @param percentile the share of calls in percent
+	 * @return the latency in nanoseconds below which the given share of calls lies
+	 */
+	public long getPercentileNanos(String operation, double percentile);
+	/**
+	 * @param operation the name of the operation
+	 * @return the largest latency in nanoseconds
+	 */
+	public long getMaxNanos(String operation);
+	/**
+	 * @param operation the name of the operation
+	 * @return the average number of nodes walked per call
+	 */
+	public double getMeanSteps(String operation);
+	/**
+	 * @param operation the name of the operation
+	 * @return the most nodes walked by a single call
+	 */
+	public long getMaxSteps(String operation);
+	/**
+	 * @param operation the name of the operation
+	 * @return the walked nodes divided by the length of the list, clearly above <code>0</code> means a loop over the list with this operation takes quadratic time
+	 * @see OperationMetrics#stepRatio()
+	 */
+	public double getStepRatio(String operation);
+	/**
+	 * Forgets everything measured so far
+	 */
+	public void reset();
+}
@@ -0,0 +1,145 @@
+package com.github.erdragh.structures;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative values, meant for latencies in nanoseconds. Just like an HdrHistogram, the values are counted in buckets whose width grows with the value: every power of two is split into 32 buckets, so a value is known to about 3% no matter how large it is, and the whole range of <code>long</code> fits into less than 2000 counters.
+ * Recording a value only increments one counter, so it is cheap and can be done by any number of threads at the same time.
+ * @author Erdragh
+ * @version 1.0
+ */
+public class LatencyHistogram {
+
+	/**
+	 * The number of bits of a value that are kept below its highest bit, which gives 32 buckets per power of two
+	 */
+	private static final int SUB_BITS = 5;
+	/**
+	 * The number of buckets per power of two
+	 */
+	private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+	/**
+	 * The number of values in each bucket
+	 */
+	private final AtomicLongArray counts = new AtomicLongArray((Long.SIZE - SUB_BITS) * SUB_BUCKETS);
+	/**
+	 * The number of recorded values
+	 */
+	private final LongAdder count = new LongAdder();
+	/**
+	 * The sum of all recorded values
+	 */
+	private final LongAdder sum = new LongAdder();
+	/**
+	 * The largest recorded value
+	 */
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Finds the bucket of a value. Values below 32 have a bucket of their own, above that the highest bit chooses the power of two and the five bits below it the bucket inside it.
+	 * @param value a non-negative value
+	 * @return the index of the bucket
+	 */
+	private static int bucket(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	/**
+	 * Gives back the largest value that falls into a bucket
+	 * @param bucket the index of the bucket
+	 * @return the largest value of the bucket
+	 */
+	private static long highest(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+		long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BITS);
+		return lowest + (1L << (exponent - SUB_BITS)) - 1;
+	}
+
+	/**
+	 * Counts a value. Negative values are counted as <code>0</code>.
+	 * @param value the value to count
+	 */
+	public void record(long value) {
+		if (value < 0) {
+			value = 0;
+		}
+		counts.incrementAndGet(bucket(value));
+		count.increment();
+		sum.add(value);
+		max.accumulate(value);
+	}
+
+	/**
+	 * A getter method
+	 * @return the number of recorded values
+	 */
+	public long count() {
+		return count.sum();
+	}
+
+	/**
+	 * A getter method
+	 * @return the average of all recorded values, or <code>0</code> if there are none
+	 */
+	public double mean() {
+		long n = count.sum();
+		return n == 0 ? 0 : (double) sum.sum() / n;
+	}
+
+	/**
+	 * A getter method
+	 * @return the largest recorded value, or <code>0</code> if there are none
+	 */
+	public long max() {
+		return max.get();
+	}
+
+	/**
+	 * Gives back the value below which the given share of all recorded values lies. The value is the upper end of its bucket, so it is at most about 3% too large, but never larger than the largest recorded value.
+	 * @param percentile the share of values in percent, for example <code>99.9</code>
+	 * @return the value at the percentile, or <code>0</code> if there are no values
+	 */
+	public long percentile(double percentile) {
+		long total = 0;
+		for (int i = 0; i < counts.length(); i++) {
+			total += counts.get(i);
+		}
+		if (total == 0) {
+			return 0;
+		}
+		//the rank of the value at the percentile, at least the first value
+		long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+		long seen = 0;
+		for (int i = 0; i < counts.length(); i++) {
+			seen += counts.get(i);
+			if (seen >= rank) {
+				return Math.min(highest(i), max.get());
+			}
+		}
+		return max.get();
+	}
+
+	/**
+	 * Forgets all recorded values. Values recorded by other threads at the same time may be partly kept.
+	 */
+	public void reset() {
+		for (int i = 0; i < counts.length(); i++) {
+			counts.set(i, 0);
+		}
+		count.reset();
+		sum.reset();
+		max.reset();
+	}
+
+}
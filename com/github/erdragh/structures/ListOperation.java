@@ -0,0 +1,30 @@
+package com.github.erdragh.structures;
+
+/**
+ * The operations of a list that <code>InstrumentedIList</code> measures, one for each changing or reading method of <code>IList</code>.
+ * @author Erdragh
+ * @version 1.0
+ * @see InstrumentedIList
+ */
+public enum ListOperation {
+	PUT,
+	PUSH,
+	TAKE,
+	PULL,
+	GET,
+	SET,
+	REMOVE,
+	INSERT,
+	REMOVE_AFTER,
+	REMOVE_BEFORE,
+	REMOVE_RANGE,
+	SPLIT_AT,
+	INSERT_ALL,
+	APPEND_LIST,
+	CLEAR,
+	LENGTH,
+	CONTAINS,
+	INDEX_OF,
+	REMOVE_FIRST,
+	REMOVE_ALL
+}
@@ -0,0 +1,51 @@
+package com.github.erdragh.structures;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The Flight Recorder event of one call to an <code>InstrumentedIList</code>. It is disabled unless a recording enables <code>com.github.erdragh.structures.ListOperation</code>, a threshold can be set to only record slow calls.
+ * @author Erdragh
+ * @version 1.0
+ * @see InstrumentedIList
+ */
+@Name("com.github.erdragh.structures.ListOperation")
+@Label("List Operation")
+@Category("Data Structures")
+@Description("A call to a method of an instrumented list")
+final class ListOperationEvent extends Event {
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Index")
+	@Description("The index the method was called with, or -1 if it has none")
+	int index;
+
+	@Label("Steps")
+	@Description("The number of nodes the call walked, or -1 if the list does not tell")
+	int steps;
+
+	@Label("Length")
+	@Description("The length of the list after the call")
+	int length;
+
+	/**
+	 * When the call started according to <code>System.nanoTime</code>, for the histograms. This is not part of the event.
+	 */
+	transient long started;
+
+	/**
+	 * The length of the list before the call, which the walked nodes are compared to. This is not part of the event.
+	 */
+	transient int before;
+
+	/**
+	 * The measured operation, this is not part of the event
+	 */
+	transient ListOperation type;
+
+}
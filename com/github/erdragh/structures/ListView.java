@@ -0,0 +1,558 @@
+package com.github.erdragh.structures;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A read-only list whose elements are computed from another list when they are needed. Views are created by <code>filter</code>, <code>map</code>, <code>limit</code>, <code>skip</code> and <code>concat</code> and can be chained without creating any lists in between.
+ * Every view passes its elements on to a sink, and every stage of a chain wraps the sink of the stage after it. A pass over a chain of views is therefore a single pass over the original list, with every element going through all stages at once.
+ * @author Erdragh
+ * @version 1.0
+ * @see IList#filter(Predicate)
+ * @see IList#map(Function)
+ */
+abstract class ListView<T> implements IList<T> {
+
+	/**
+	 * Passes the elements of the view on to the sink, one after the other, until the sink does not want any more.
+	 * @param sink receives the elements and gives back whether it wants more of them
+	 * @return <code>false</code> if the sink stopped the pass, <code>true</code> if all elements were passed on
+	 */
+	abstract boolean forEachWhile(Predicate<? super T> sink);
+
+	/**
+	 * Gives back the list as a view, so it can be used as the start of a chain
+	 * @param list the list
+	 * @return the list itself if it already is a view, otherwise a view of all its elements
+	 */
+	static <T> ListView<T> of(IList<T> list) {
+		return list instanceof ListView ? (ListView<T>) list : new Source<T>(list);
+	}
+
+	@Override
+	public T get(int i) {
+		if (i < 0) {
+			return null;
+		}
+		//walks through the view until the index is reached, the view could skip any number of elements of its source
+		Find<T> find = new Find<T>(i);
+		forEachWhile(find);
+		return find.found;
+	}
+
+	@Override
+	public int length() {
+		Count<T> count = new Count<T>();
+		forEachWhile(count);
+		return count.count;
+	}
+
+	@Override
+	public void forEach(Consumer<? super T> action) {
+		forEachWhile(element -> {
+			action.accept(element);
+			return true;
+		});
+	}
+
+	@Override
+	public ICursor<T> cursor() {
+		Iterator<T> iterator = iterator();
+		return new ICursor<T>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public T next() {
+				return iterator.next();
+			}
+
+			@Override
+			public void set(T data) {
+				throw readOnly();
+			}
+
+			@Override
+			public void remove() {
+				throw readOnly();
+			}
+
+			@Override
+			public void insertBefore(T data) {
+				throw readOnly();
+			}
+
+			@Override
+			public void insertAfter(T data) {
+				throw readOnly();
+			}
+		};
+	}
+
+	/**
+	 * Gives back an iterator that computes the elements of the view one at a time
+	 * @return an iterator over the view
+	 */
+	@Override
+	public abstract Iterator<T> iterator();
+
+	@Override
+	public Spliterator<T> spliterator() {
+		//the length of most views is only known after a full pass, so the spliterator does not report it
+		return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+	}
+
+	/**
+	 * Creates the exception every changing method of a view throws
+	 * @return the exception to be thrown
+	 */
+	private static UnsupportedOperationException readOnly() {
+		return new UnsupportedOperationException("List views are read-only");
+	}
+
+	@Override
+	public void put(T data) {
+		throw readOnly();
+	}
+
+	@Override
+	public void sort(Comparator<? super T> comparator) {
+		throw readOnly();
+	}
+
+	@Override
+	public void removeRange(int from, int to) {
+		throw readOnly();
+	}
+
+	@Override
+	public boolean removeFirst(Object value) {
+		throw readOnly();
+	}
+
+	@Override
+	public int removeAll(Object value) {
+		throw readOnly();
+	}
+
+	@Override
+	public void push(T data) {
+		throw readOnly();
+	}
+
+	@Override
+	public T take() {
+		throw readOnly();
+	}
+
+	@Override
+	public T pull() {
+		throw readOnly();
+	}
+
+	@Override
+	public void set(int i, T data) {
+		throw readOnly();
+	}
+
+	@Override
+	public void remove(int i) {
+		throw readOnly();
+	}
+
+	@Override
+	public void insert(int i, T data) {
+		throw readOnly();
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		throw readOnly();
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		throw readOnly();
+	}
+
+	@Override
+	public IList<T> splitAt(int i) {
+		throw readOnly();
+	}
+
+	@Override
+	public void clear() {
+		throw readOnly();
+	}
+
+	/**
+	 * A sink that stops at the element with a given index and remembers it
+	 */
+	private static class Find<T> implements Predicate<T> {
+		/**
+		 * The number of elements left until the wanted one
+		 */
+		private int remaining;
+		/**
+		 * The wanted element, <code>null</code> until it is found
+		 */
+		private T found;
+
+		Find(int index) {
+			this.remaining = index;
+		}
+
+		@Override
+		public boolean test(T element) {
+			if (remaining-- == 0) {
+				found = element;
+				return false;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * A sink that counts the elements
+	 */
+	private static class Count<T> implements Predicate<T> {
+		/**
+		 * The number of elements so far
+		 */
+		private int count;
+
+		@Override
+		public boolean test(T element) {
+			count++;
+			return true;
+		}
+	}
+
+	/**
+	 * The start of every chain, a view of all elements of a list
+	 */
+	static class Source<T> extends ListView<T> {
+		/**
+		 * The list the elements come from
+		 */
+		private final IList<T> list;
+
+		Source(IList<T> list) {
+			this.list = list;
+		}
+
+		@Override
+		boolean forEachWhile(Predicate<? super T> sink) {
+			for (T element : list) {
+				if (!sink.test(element)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public T get(int i) {
+			return list.get(i);
+		}
+
+		@Override
+		public int length() {
+			return list.length();
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return list.iterator();
+		}
+	}
+
+	/**
+	 * A view of the elements of another view that match a predicate
+	 */
+	static class Filter<T> extends ListView<T> {
+		/**
+		 * The view the elements come from
+		 */
+		private final ListView<T> source;
+		/**
+		 * Decides which elements are kept
+		 */
+		private final Predicate<? super T> predicate;
+
+		Filter(ListView<T> source, Predicate<? super T> predicate) {
+			this.source = source;
+			this.predicate = predicate;
+		}
+
+		@Override
+		boolean forEachWhile(Predicate<? super T> sink) {
+			return source.forEachWhile(element -> !predicate.test(element) || sink.test(element));
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			Iterator<T> iterator = source.iterator();
+			return new Iterator<T>() {
+				/**
+				 * The next matching element, valid while <code>ready</code> is set
+				 */
+				private T upcoming;
+				/**
+				 * Whether the next matching element was already found
+				 */
+				private boolean ready;
+
+				@Override
+				public boolean hasNext() {
+					while (!ready && iterator.hasNext()) {
+						T element = iterator.next();
+						if (predicate.test(element)) {
+							upcoming = element;
+							ready = true;
+						}
+					}
+					return ready;
+				}
+
+				@Override
+				public T next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					ready = false;
+					T element = upcoming;
+					upcoming = null;
+					return element;
+				}
+			};
+		}
+	}
+
+	/**
+	 * A view of the elements of another view, each converted by a function
+	 */
+	static class Map<S, T> extends ListView<T> {
+		/**
+		 * The view the elements come from
+		 */
+		private final ListView<S> source;
+		/**
+		 * Converts the elements
+		 */
+		private final Function<? super S, ? extends T> mapper;
+
+		Map(ListView<S> source, Function<? super S, ? extends T> mapper) {
+			this.source = source;
+			this.mapper = mapper;
+		}
+
+		@Override
+		boolean forEachWhile(Predicate<? super T> sink) {
+			return source.forEachWhile(element -> sink.test(mapper.apply(element)));
+		}
+
+		@Override
+		public T get(int i) {
+			//converting does not change the positions, so only the one element needs to be converted
+			return i < 0 || i >= source.length() ? null : mapper.apply(source.get(i));
+		}
+
+		@Override
+		public int length() {
+			return source.length();
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			Iterator<S> iterator = source.iterator();
+			return new Iterator<T>() {
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public T next() {
+					return mapper.apply(iterator.next());
+				}
+			};
+		}
+	}
+
+	/**
+	 * A view of at most the first elements of another view
+	 */
+	static class Limit<T> extends ListView<T> {
+		/**
+		 * The view the elements come from
+		 */
+		private final ListView<T> source;
+		/**
+		 * The maximum number of elements
+		 */
+		private final int limit;
+
+		Limit(ListView<T> source, int limit) {
+			this.source = source;
+			this.limit = limit;
+		}
+
+		@Override
+		boolean forEachWhile(Predicate<? super T> sink) {
+			if (limit == 0) {
+				return true;
+			}
+			//stopping the source because the limit is reached is not the same as the sink stopping, a concatenated view still has to continue
+			boolean[] stopped = new boolean[1];
+			int[] passed = new int[1];
+			source.forEachWhile(element -> {
+				if (!sink.test(element)) {
+					stopped[0] = true;
+					return false;
+				}
+				return ++passed[0] < limit;
+			});
+			return !stopped[0];
+		}
+
+		@Override
+		public T get(int i) {
+			return i < limit ? source.get(i) : null;
+		}
+
+		@Override
+		public int length() {
+			return Math.min(limit, source.length());
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			Iterator<T> iterator = source.iterator();
+			return new Iterator<T>() {
+				/**
+				 * The number of elements returned so far
+				 */
+				private int passed;
+
+				@Override
+				public boolean hasNext() {
+					return passed < limit && iterator.hasNext();
+				}
+
+				@Override
+				public T next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					passed++;
+					return iterator.next();
+				}
+			};
+		}
+	}
+
+	/**
+	 * A view of the elements of another view without the first ones
+	 */
+	static class Skip<T> extends ListView<T> {
+		/**
+		 * The view the elements come from
+		 */
+		private final ListView<T> source;
+		/**
+		 * The number of elements left out at the beginning
+		 */
+		private final int skipped;
+
+		Skip(ListView<T> source, int skipped) {
+			this.source = source;
+			this.skipped = skipped;
+		}
+
+		@Override
+		boolean forEachWhile(Predicate<? super T> sink) {
+			int[] passed = new int[1];
+			return source.forEachWhile(element -> passed[0]++ < skipped || sink.test(element));
+		}
+
+		@Override
+		public T get(int i) {
+			return i < 0 ? null : source.get(i + skipped);
+		}
+
+		@Override
+		public int length() {
+			return Math.max(0, source.length() - skipped);
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			Iterator<T> iterator = source.iterator();
+			for (int j = 0; j < skipped && iterator.hasNext(); j++) {
+				iterator.next();
+			}
+			return iterator;
+		}
+	}
+
+	/**
+	 * A view of the elements of one view followed by the elements of another
+	 */
+	static class Concat<T> extends ListView<T> {
+		/**
+		 * The view whose elements come first
+		 */
+		private final ListView<? extends T> head;
+		/**
+		 * The view whose elements come after those of <code>head</code>
+		 */
+		private final ListView<? extends T> tail;
+
+		Concat(ListView<? extends T> head, ListView<? extends T> tail) {
+			this.head = head;
+			this.tail = tail;
+		}
+
+		@Override
+		boolean forEachWhile(Predicate<? super T> sink) {
+			return head.forEachWhile(sink) && tail.forEachWhile(sink);
+		}
+
+		@Override
+		public T get(int i) {
+			int length = head.length();
+			return i < length ? head.get(i) : tail.get(i - length);
+		}
+
+		@Override
+		public int length() {
+			return head.length() + tail.length();
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			Iterator<? extends T> first = head.iterator();
+			Iterator<? extends T> second = tail.iterator();
+			return new Iterator<T>() {
+				@Override
+				public boolean hasNext() {
+					return first.hasNext() || second.hasNext();
+				}
+
+				@Override
+				public T next() {
+					return first.hasNext() ? first.next() : second.next();
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,625 @@
+package com.github.erdragh.structures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * An implementation of a list that keeps its elements in memory-mapped files instead of the Java heap, so it can hold more data than fits into the heap and keeps it after the program ended.
+ * The list uses two files. The data file holds the bytes of the elements one after the other, it is only ever appended to: <code>put</code> and <code>insert</code> write the new element at the end, and <code>set</code> writes the new element there too and leaves the old bytes behind. The index file, which has the name of the data file followed by <code>.index</code>, holds a small header and one entry per element in the order of the list, telling where the bytes of the element are. Elements are written to and read from the mapped files directly through an <code>ISerializer</code>, without copying them into the heap first.
+ * <p>
+ * Opening a list from existing files only reads the header of the index, no matter how long the list is. The bytes that removed and replaced elements leave behind in the data file are cleaned up by <code>compact</code>, which happens on its own once they take more space than the elements still in the list.
+ * <p>
+ * Changes are written to the mapped files right away, the operating system writes them to the disk eventually. <code>force</code> and <code>close</code> make sure they are on the disk. A crash in the middle of a change, including a compaction, can leave the files inconsistent.
+ * The list must not be used anymore after it has been closed. It is not thread-safe.
+ * @author Erdragh
+ * @version 1.0
+ * @see ISerializer
+ * @see OffHeapList
+ */
+
+public class MappedFileList<T> implements IList<T>, AutoCloseable {
+
+	/**
+	 * The first four bytes of every index file, <code>LIST</code> in ASCII
+	 */
+	private static final int MAGIC = 0x4C495354;
+	/**
+	 * The version of the file layout
+	 */
+	private static final int VERSION = 1;
+	/**
+	 * The number of bytes of the header of the index file. It holds the magic number, the version, the first used entry, the number of elements, the end of the data and the number of bytes the elements take, in that order.
+	 */
+	private static final int HEADER = 32;
+	/**
+	 * The number of bytes of an entry of the index file. It holds the position of the element in the data file as a <code>long</code> and its length as an <code>int</code>, which is <code>-1</code> for <code>null</code>.
+	 */
+	private static final int ENTRY = 16;
+	/**
+	 * The number of unused bytes in the data file below which it is never compacted on its own
+	 */
+	private static final long COMPACT_MINIMUM = 1 << 20;
+	/**
+	 * The number of unused entries at the beginning of the index below which they are never given back on their own
+	 */
+	private static final int GAP_MINIMUM = 1024;
+
+	/**
+	 * The serializer converting between elements and bytes
+	 */
+	private final ISerializer<T> serializer;
+	/**
+	 * The data file
+	 */
+	private final Path dataPath;
+	/**
+	 * The mapped data file
+	 */
+	private MappedRegion data;
+	/**
+	 * The mapped index file
+	 */
+	private final MappedRegion index;
+	/**
+	 * The entry of the first element. There are unused entries in front of it, so elements can be pushed without moving all entries.
+	 */
+	private int first;
+	/**
+	 * The number of elements in the list
+	 */
+	private int size;
+	/**
+	 * The position in the data file where the next element is written
+	 */
+	private long end;
+	/**
+	 * The number of bytes in the data file that belong to elements of the list, the rest up to <code>end</code> is left over from removed and replaced elements
+	 */
+	private long live;
+
+	/**
+	 * Opens the list stored in the given file, or creates a new empty list there if the file does not exist yet
+	 * @param file the data file, the index file is put next to it
+	 * @param serializer the serializer that converts the elements to bytes and back, this has to be the same as the one the list was created with
+	 * @throws IOException if the files cannot be opened, or if the index file is not the index of a list
+	 */
+	public MappedFileList(Path file, ISerializer<T> serializer) throws IOException {
+		this.serializer = serializer;
+		this.dataPath = file;
+		Path indexPath = file.resolveSibling(file.getFileName() + ".index");
+		boolean exists = Files.exists(indexPath) && Files.size(indexPath) >= HEADER;
+		index = new MappedRegion(indexPath, HEADER);
+		ByteBuffer header = index.segment(0);
+		if (exists) {
+			if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+				index.close(Files.size(indexPath));
+				throw new IOException(indexPath + " is not the index of a list");
+			}
+			first = header.getInt(8);
+			size = header.getInt(12);
+			end = header.getLong(16);
+			live = header.getLong(24);
+		} else {
+			header.putInt(0, MAGIC);
+			header.putInt(4, VERSION);
+			writeHeader();
+		}
+		//at least one byte is mapped, so elements without any bytes always have a segment to be read from
+		data = new MappedRegion(dataPath, Math.max(end, 1));
+	}
+
+	/**
+	 * Writes the fields that change to the header of the index file
+	 */
+	private void writeHeader() {
+		ByteBuffer header = index.segment(0);
+		header.putInt(8, first);
+		header.putInt(12, size);
+		header.putLong(16, end);
+		header.putLong(24, live);
+	}
+
+	/**
+	 * Returns the position of an entry in the index file
+	 * @param slot the number of the entry
+	 * @return the position of the entry
+	 */
+	private static long entry(int slot) {
+		return HEADER + (long) slot * ENTRY;
+	}
+
+	/**
+	 * Reads where the bytes of an element are in the data file
+	 * @param slot the number of the entry
+	 * @return the position of the bytes
+	 */
+	private long positionAt(int slot) {
+		long entry = entry(slot);
+		return index.segment(entry).getLong(MappedRegion.offset(entry));
+	}
+
+	/**
+	 * Reads how many bytes an element has
+	 * @param slot the number of the entry
+	 * @return the number of bytes, <code>-1</code> for <code>null</code>
+	 */
+	private int lengthAt(int slot) {
+		long entry = entry(slot);
+		return index.segment(entry).getInt(MappedRegion.offset(entry) + Long.BYTES);
+	}
+
+	/**
+	 * Writes an entry
+	 * @param slot the number of the entry
+	 * @param position the position of the bytes of the element
+	 * @param length the number of bytes, <code>-1</code> for <code>null</code>
+	 */
+	private void writeEntry(int slot, long position, int length) {
+		long entry = entry(slot);
+		ByteBuffer segment = index.segment(entry);
+		int offset = MappedRegion.offset(entry);
+		segment.putLong(offset, position);
+		segment.putInt(offset + Long.BYTES, length);
+	}
+
+	/**
+	 * Moves a range of entries. The ranges may overlap.
+	 * @param from the first entry to move
+	 * @param to the entry the first one is moved to
+	 * @param count the number of entries
+	 */
+	private void moveEntries(int from, int to, int count) {
+		if (to < from) {
+			for (int s = 0; s < count; s++) {
+				writeEntry(to + s, positionAt(from + s), lengthAt(from + s));
+			}
+		} else {
+			for (int s = count - 1; s >= 0; s--) {
+				writeEntry(to + s, positionAt(from + s), lengthAt(from + s));
+			}
+		}
+	}
+
+	/**
+	 * Makes sure there is an entry after the last element. If most entries at the beginning are unused, because many elements were pulled, the entries are moved back to the beginning first, so the index file does not keep growing.
+	 */
+	private void ensureEntryAtEnd() {
+		if (first >= GAP_MINIMUM && first > size) {
+			moveEntries(first, 0, size);
+			first = 0;
+		}
+		ensureEntries(first + size + 1);
+	}
+
+	/**
+	 * Makes sure there is an entry before the first element. If there is none, the entries are moved back by as many entries as there are elements, so pushing only has to move them every now and then.
+	 */
+	private void ensureEntryAtStart() {
+		if (first > 0) {
+			return;
+		}
+		int gap = Math.max(size, 16);
+		ensureEntries(gap + size);
+		moveEntries(0, gap, size);
+		first = gap;
+	}
+
+	/**
+	 * Makes sure the index file can hold the given number of entries
+	 * @param slots the number of entries
+	 */
+	private void ensureEntries(int slots) {
+		try {
+			index.ensure(entry(slots));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Tells how many bytes an element takes and checks that it fits into a segment of the data file
+	 * @param data the element
+	 * @return the number of bytes, <code>-1</code> for <code>null</code>
+	 */
+	private int lengthOf(T data) {
+		if (data == null) {
+			return -1;
+		}
+		int length = serializer.size(data);
+		if (length < 0 || length > MappedRegion.SEGMENT_SIZE) {
+			throw new IllegalArgumentException("An element cannot take " + length + " bytes");
+		}
+		return length;
+	}
+
+	/**
+	 * Writes an element at the end of the data file
+	 * @param data the element
+	 * @param length the number of bytes of the element as given by <code>lengthOf</code>
+	 * @return the position of the bytes
+	 */
+	private long write(T data, int length) {
+		if (length <= 0) {
+			//there are no bytes to write, so any position will do
+			return 0;
+		}
+		long position = next(end, length);
+		try {
+			this.data.ensure(position + length);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		serializer.write(data, this.data.segment(position), MappedRegion.offset(position));
+		end = position + length;
+		live += length;
+		return position;
+	}
+
+	/**
+	 * Finds the position for an element, since an element must not cross the border between two segments
+	 * @param position the first free position
+	 * @param length the number of bytes of the element
+	 * @return the given position, or the beginning of the next segment if the element does not fit into the current one anymore
+	 */
+	private static long next(long position, int length) {
+		if (MappedRegion.offset(position) + (long) length > MappedRegion.SEGMENT_SIZE) {
+			return (position | (MappedRegion.SEGMENT_SIZE - 1)) + 1;
+		}
+		return position;
+	}
+
+	/**
+	 * Forgets the bytes of the element of an entry, they stay in the data file until it is compacted
+	 * @param slot the number of the entry
+	 */
+	private void release(int slot) {
+		int length = lengthAt(slot);
+		if (length > 0) {
+			live -= length;
+		}
+	}
+
+	/**
+	 * Cleans up the data file after elements were removed or replaced, if that is worth it
+	 */
+	private void tidy() {
+		if (size == 0) {
+			//nothing in the data file is used anymore, so it can simply be written over
+			first = 0;
+			end = 0;
+			live = 0;
+		} else if (end - live > COMPACT_MINIMUM && end - live > live) {
+			compact();
+		}
+		writeHeader();
+	}
+
+	/**
+	 * Rewrites the data file so that it only holds the bytes of the elements in the list, in the order of the list. The entries of the index are changed to the new positions.
+	 * The new data file is written next to the old one first, so this needs as much free disk space as the elements of the list take.
+	 */
+	public void compact() {
+		Path temporary = dataPath.resolveSibling(dataPath.getFileName() + ".compacting");
+		try {
+			Files.deleteIfExists(temporary);
+			MappedRegion compacted = new MappedRegion(temporary, Math.max(live, 1));
+			long position = 0;
+			for (int s = first; s < first + size; s++) {
+				int length = lengthAt(s);
+				if (length <= 0) {
+					continue;
+				}
+				long from = positionAt(s);
+				position = next(position, length);
+				compacted.ensure(position + length);
+				compacted.segment(position).put(MappedRegion.offset(position), data.segment(from), MappedRegion.offset(from), length);
+				writeEntry(s, position, length);
+				position += length;
+			}
+			compacted.close(position);
+			data.close(end);
+			Files.move(temporary, dataPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			data = new MappedRegion(dataPath, Math.max(position, 1));
+			end = position;
+			writeHeader();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Writes all changes to the disk
+	 */
+	public void force() {
+		writeHeader();
+		index.force();
+		data.force();
+	}
+
+	/**
+	 * Writes all changes to the disk and closes the files. The files are cut down to the bytes that are in use, so they can be opened again later. The list must not be used anymore afterwards.
+	 */
+	@Override
+	public void close() {
+		writeHeader();
+		try {
+			index.close(entry(first + size));
+			data.close(end);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void put(T data) {
+		int length = lengthOf(data);
+		long position = write(data, length);
+		ensureEntryAtEnd();
+		writeEntry(first + size, position, length);
+		size++;
+		writeHeader();
+	}
+
+	@Override
+	public void push(T data) {
+		int length = lengthOf(data);
+		long position = write(data, length);
+		ensureEntryAtStart();
+		first--;
+		writeEntry(first, position, length);
+		size++;
+		writeHeader();
+	}
+
+	@Override
+	public T take() {
+		if (size == 0) {
+			return null;
+		}
+		T data = get(size - 1);
+		remove(size - 1);
+		return data;
+	}
+
+	@Override
+	public T pull() {
+		if (size == 0) {
+			return null;
+		}
+		T data = get(0);
+		remove(0);
+		return data;
+	}
+
+	@Override
+	public T get(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return null;
+		}
+		int length = lengthAt(first + i);
+		if (length < 0) {
+			return null;
+		}
+		long position = positionAt(first + i);
+		return serializer.read(data.segment(position), MappedRegion.offset(position), length);
+	}
+
+	@Override
+	public void set(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == size) {
+			//the index is immediately after the end, so the element is put at the end
+			put(data);
+			return;
+		}
+		int length = lengthOf(data);
+		long position = write(data, length);
+		release(first + i);
+		writeEntry(first + i, position, length);
+		tidy();
+	}
+
+	@Override
+	public void remove(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return;
+		}
+		release(first + i);
+		//the entries on the shorter side of the index are moved to close the gap
+		if (i < size / 2) {
+			moveEntries(first, first + 1, i);
+			first++;
+		} else {
+			moveEntries(first + i + 1, first + i, size - i - 1);
+		}
+		size--;
+		tidy();
+	}
+
+	@Override
+	public void insert(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		int length = lengthOf(data);
+		long position = write(data, length);
+		//the entries on the shorter side of the index are moved to make room
+		if (i < size / 2) {
+			ensureEntryAtStart();
+			moveEntries(first, first - 1, i);
+			first--;
+		} else {
+			ensureEntryAtEnd();
+			moveEntries(first + i, first + i + 1, size - i);
+		}
+		writeEntry(first + i, position, length);
+		size++;
+		writeHeader();
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		if (i < 0 || i >= size) {
+			//Do nothing, since index i is out of bounds for the List
+			return;
+		}
+		for (int s = first + i + 1; s < first + size; s++) {
+			release(s);
+		}
+		size = i + 1;
+		tidy();
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		if (i < 0 || i >= size) {
+			//if the index is out of bounds the whole list is removed, just like it always was
+			clear();
+			return;
+		}
+		for (int s = first; s < first + i; s++) {
+			release(s);
+		}
+		first += i;
+		size -= i;
+		tidy();
+	}
+
+	/**
+	 * Removes the elements in the range without splitting the list into another file. Their data is released and the entries on the shorter side of the range are moved over it once.
+	 * @param from the index of the first element to be removed
+	 * @param to the index after the last element to be removed. If the range is not inside the list nothing is removed
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		if (from < 0 || to > size || from >= to) {
+			//Range out of bounds for the List, or empty
+			return;
+		}
+		for (int s = first + from; s < first + to; s++) {
+			release(s);
+		}
+		int count = to - from;
+		if (from < size - to) {
+			moveEntries(first, first + count, from);
+			first += count;
+		} else {
+			moveEntries(first + to, first + from, size - to);
+		}
+		size -= count;
+		tidy();
+	}
+
+	/**
+	 * Moves the data from the given index on to a new list. The new list is stored in a new file next to the file of this list, whose name starts with the name of this file and ends with <code>.split</code>. It has to be closed just like this list.
+	 * @param i the index of the first data point that is moved to the new list
+	 * @return the new list holding the data points from the index on
+	 */
+	@Override
+	public MappedFileList<T> splitAt(int i) {
+		MappedFileList<T> tail;
+		try {
+			Path directory = dataPath.toAbsolutePath().getParent();
+			tail = new MappedFileList<T>(Files.createTempFile(directory, dataPath.getFileName().toString(), ".split"), serializer);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List, or there is nothing after it
+			return tail;
+		}
+		for (int s = first + i; s < first + size; s++) {
+			tail.copy(this, s);
+		}
+		tail.writeHeader();
+		if (i == 0) {
+			clear();
+		} else {
+			removeAfter(i - 1);
+		}
+		return tail;
+	}
+
+	/**
+	 * Puts the element of another list at the end of this list by copying its bytes, without reading the element. Both lists must use the same serializer.
+	 * @param other the list to copy from
+	 * @param slot the entry of the element in the other list
+	 */
+	private void copy(MappedFileList<? extends T> other, int slot) {
+		int length = other.lengthAt(slot);
+		long position = 0;
+		if (length > 0) {
+			long from = other.positionAt(slot);
+			position = next(end, length);
+			try {
+				data.ensure(position + length);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			data.segment(position).put(MappedRegion.offset(position), other.data.segment(from), MappedRegion.offset(from), length);
+			end = position + length;
+			live += length;
+		}
+		ensureEntryAtEnd();
+		writeEntry(first + size, position, length);
+		size++;
+	}
+
+	@Override
+	public void appendList(IList<? extends T> other) {
+		if (!(other instanceof MappedFileList) || ((MappedFileList<? extends T>) other).serializer != serializer) {
+			IList.super.appendList(other);
+			return;
+		}
+		if (other == this) {
+			throw new IllegalArgumentException("A list cannot be appended to itself");
+		}
+		//both lists store the elements the same way, so the bytes can be copied as they are
+		MappedFileList<? extends T> list = (MappedFileList<? extends T>) other;
+		for (int s = list.first; s < list.first + list.size; s++) {
+			copy(list, s);
+		}
+		writeHeader();
+		list.clear();
+	}
+
+	@Override
+	public void clear() {
+		//the files keep their size, they are simply written over from the beginning
+		first = 0;
+		size = 0;
+		end = 0;
+		live = 0;
+		writeHeader();
+	}
+
+	@Override
+	public int length() {
+		return size;
+	}
+
+	@Override
+	public boolean isArrayBacked() {
+		return true;
+	}
+
+	/**
+	 * The list cannot be read while it is changed, since the file is mapped again whenever it grows and the old mapping is unmapped, so a read racing that would read unmapped memory
+	 * @return always <code>false</code>
+	 */
+	@Override
+	public boolean allowsOptimisticReads() {
+		return false;
+	}
+
+}
@@ -0,0 +1,129 @@
+package com.github.erdragh.structures;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A file that is mapped into memory in segments. A single mapping cannot be larger than 2 GiB, so the file is split into segments of 1 GiB that are mapped one by one. The file grows by doubling, and only the last segment has to be mapped again when it does.
+ * Positions in the file are <code>long</code>s, <code>segment</code> and <code>offset</code> split them into the buffer and the index inside it. Anything stored in the region must not cross the border between two segments.
+ * @author Erdragh
+ * @version 1.0
+ * @see MappedFileList
+ */
+final class MappedRegion {
+
+	/**
+	 * The size of a segment as a power of two
+	 */
+	static final int SEGMENT_SHIFT = 30;
+	/**
+	 * The size of a segment in bytes
+	 */
+	static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+	/**
+	 * The smallest size the file is mapped with
+	 */
+	private static final long MINIMUM_CAPACITY = 1 << 16;
+
+	/**
+	 * The channel of the mapped file
+	 */
+	private final FileChannel channel;
+	/**
+	 * The mapped segments, only the first ones up to the capacity are in use
+	 */
+	private MappedByteBuffer[] segments = new MappedByteBuffer[1];
+	/**
+	 * The number of bytes that are mapped
+	 */
+	private long capacity;
+
+	/**
+	 * Opens or creates the file and maps at least the given number of bytes of it, or the whole file if it is larger
+	 * @param path the file
+	 * @param size the number of bytes that are needed right away
+	 * @throws IOException if the file cannot be opened or mapped
+	 */
+	MappedRegion(Path path, long size) throws IOException {
+		channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		ensure(Math.max(size, channel.size()));
+	}
+
+	/**
+	 * Returns the segment a position lies in
+	 * @param position the position in the file
+	 * @return the mapped segment holding the position
+	 */
+	ByteBuffer segment(long position) {
+		return segments[(int) (position >>> SEGMENT_SHIFT)];
+	}
+
+	/**
+	 * Returns the index of a position inside its segment
+	 * @param position the position in the file
+	 * @return the index in the buffer returned by <code>segment</code>
+	 */
+	static int offset(long position) {
+		return (int) (position & (SEGMENT_SIZE - 1));
+	}
+
+	/**
+	 * Makes sure the given number of bytes is mapped. If it is not, the file at least doubles in size.
+	 * @param size the number of bytes that are needed
+	 * @throws IOException if the file cannot be grown or mapped
+	 */
+	void ensure(long size) throws IOException {
+		if (size <= capacity) {
+			return;
+		}
+		long grown = Math.max(Math.max(size, capacity * 2), MINIMUM_CAPACITY);
+		int last = (int) ((grown - 1) >>> SEGMENT_SHIFT);
+		if (last >= segments.length) {
+			MappedByteBuffer[] larger = new MappedByteBuffer[Math.max(last + 1, segments.length * 2)];
+			System.arraycopy(segments, 0, larger, 0, segments.length);
+			segments = larger;
+		}
+		//the segment that was mapped last may be shorter than a full segment, so it is mapped again with the new size
+		int first = capacity == 0 ? 0 : (int) ((capacity - 1) >>> SEGMENT_SHIFT);
+		for (int s = first; s <= last; s++) {
+			long start = (long) s << SEGMENT_SHIFT;
+			MappedByteBuffer old = segments[s];
+			segments[s] = channel.map(FileChannel.MapMode.READ_WRITE, start, Math.min(SEGMENT_SIZE, grown - start));
+			DirectMemory.free(old);
+		}
+		capacity = grown;
+	}
+
+	/**
+	 * Writes all changes in the mapped segments to the disk
+	 */
+	void force() {
+		for (int s = 0; s < segments.length && segments[s] != null; s++) {
+			segments[s].force();
+		}
+	}
+
+	/**
+	 * Writes all changes to the disk, unmaps the segments and cuts the file down to the bytes that are in use. The region must not be used anymore after this.
+	 * @param size the number of bytes of the file that are in use
+	 * @throws IOException if the file cannot be cut down or closed
+	 */
+	void close(long size) throws IOException {
+		force();
+		for (int s = 0; s < segments.length; s++) {
+			DirectMemory.free(segments[s]);
+			segments[s] = null;
+		}
+		capacity = 0;
+		try {
+			channel.truncate(size);
+		} finally {
+			channel.close();
+		}
+	}
+
+}
@@ -0,0 +1,418 @@
+package com.github.erdragh.structures;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An implementation of a list that keeps its elements outside of the Java heap. Every element is stored as a fixed width record in large direct buffers, the slabs, so the Garbage Collector only ever sees the few slab objects no matter how long the list is.
+ * The memory is released as soon as it is not needed anymore, when the list is cleared and when it is closed.
+ * @author Erdragh
+ * @version 1.0
+ * @see IRecordCodec
+ */
+
+public class OffHeapList<T> implements IList<T>, AutoCloseable {
+
+	/**
+	 * The number of bytes a slab should have roughly. The exact size depends on the width of the records, since a slab always holds a power of two of them.
+	 */
+	private static final int SLAB_BYTES = 1 << 20;
+	/**
+	 * The first byte of every record tells whether an element is stored in it or whether it is <code>null</code>.
+	 */
+	private static final byte PRESENT = 1;
+
+	/**
+	 * The codec converting between elements and records
+	 */
+	private final IRecordCodec<T> codec;
+	/**
+	 * The number of bytes of a record including the presence byte
+	 */
+	private final int stride;
+	/**
+	 * The records per slab as a power of two, so a record position can be split into slab and offset with shifts
+	 */
+	private final int shift;
+	/**
+	 * The slabs of the list, only the first <code>slabCount</code> are in use
+	 */
+	private ByteBuffer[] slabs = new ByteBuffer[4];
+	/**
+	 * The number of slabs currently allocated
+	 */
+	private int slabCount;
+	/**
+	 * The record position of the first element, counted from the beginning of the first slab
+	 */
+	private int head;
+	/**
+	 * The number of elements in the list.
+	 */
+	private int size;
+
+	/**
+	 * Creates an empty list that does not allocate any memory until the first element is added.
+	 * @param codec the codec that converts the elements to records and back
+	 */
+	public OffHeapList(IRecordCodec<T> codec) {
+		if (codec.width() <= 0 || codec.width() >= SLAB_BYTES) {
+			throw new IllegalArgumentException("Illegal record width: " + codec.width());
+		}
+		this.codec = codec;
+		this.stride = codec.width() + 1;
+		this.shift = 31 - Integer.numberOfLeadingZeros(SLAB_BYTES / stride);
+	}
+
+	/**
+	 * The number of records a single slab can hold
+	 * @return the records per slab
+	 */
+	private int recordsPerSlab() {
+		return 1 << shift;
+	}
+
+	/**
+	 * Returns the slab a record position lies in
+	 * @param position the record position, counted from the beginning of the first slab
+	 * @return the slab holding the record
+	 */
+	private ByteBuffer slab(long position) {
+		return slabs[(int) (position >>> shift)];
+	}
+
+	/**
+	 * Returns where in its slab a record starts
+	 * @param position the record position, counted from the beginning of the first slab
+	 * @return the byte offset of the record in its slab
+	 */
+	private int offset(long position) {
+		return ((int) position & (recordsPerSlab() - 1)) * stride;
+	}
+
+	/**
+	 * Reads the element of the record at the given position
+	 * @param position the record position, counted from the beginning of the first slab
+	 * @return the decoded element, or <code>null</code> if <code>null</code> was stored
+	 */
+	private T read(long position) {
+		ByteBuffer slab = slab(position);
+		int offset = offset(position);
+		return slab.get(offset) == PRESENT ? codec.decode(slab, offset + 1) : null;
+	}
+
+	/**
+	 * Writes the element into the record at the given position
+	 * @param position the record position, counted from the beginning of the first slab
+	 * @param data the element to be stored, may be <code>null</code>
+	 */
+	private void write(long position, T data) {
+		ByteBuffer slab = slab(position);
+		int offset = offset(position);
+		if (data == null) {
+			slab.put(offset, (byte) 0);
+		} else {
+			slab.put(offset, PRESENT);
+			codec.encode(data, slab, offset + 1);
+		}
+	}
+
+	/**
+	 * Moves a run of records to another position. The runs may overlap, the records are copied slab by slab in the direction that does not overwrite records before they were moved.
+	 * @param from the record position of the first record to be moved
+	 * @param to the record position the first record is moved to
+	 * @param count the number of records to be moved
+	 */
+	private void move(long from, long to, int count) {
+		int perSlab = recordsPerSlab();
+		if (to < from) {
+			while (count > 0) {
+				int run = Math.min(count, Math.min(perSlab - offset(from) / stride, perSlab - offset(to) / stride));
+				slab(to).put(offset(to), slab(from), offset(from), run * stride);
+				from += run;
+				to += run;
+				count -= run;
+			}
+		} else if (to > from) {
+			long fromEnd = from + count;
+			long toEnd = to + count;
+			while (count > 0) {
+				//the run ends right before fromEnd and toEnd, so it must not reach back over the beginning of either slab
+				int run = Math.min(count, Math.min(offset(fromEnd - 1) / stride + 1, offset(toEnd - 1) / stride + 1));
+				fromEnd -= run;
+				toEnd -= run;
+				slab(toEnd).put(offset(toEnd), slab(fromEnd), offset(fromEnd), run * stride);
+				count -= run;
+			}
+		}
+	}
+
+	/**
+	 * Makes sure there is a record after the last element of the list
+	 */
+	private void ensureSpaceAtEnd() {
+		if ((long) head + size < (long) slabCount << shift) {
+			return;
+		}
+		if (slabCount == slabs.length) {
+			ByteBuffer[] grown = new ByteBuffer[slabs.length << 1];
+			System.arraycopy(slabs, 0, grown, 0, slabCount);
+			slabs = grown;
+		}
+		slabs[slabCount++] = ByteBuffer.allocateDirect(recordsPerSlab() * stride);
+	}
+
+	/**
+	 * Makes sure there is a record before the first element of the list
+	 */
+	private void ensureSpaceAtStart() {
+		if (head > 0) {
+			return;
+		}
+		if (slabCount == slabs.length) {
+			ByteBuffer[] grown = new ByteBuffer[slabs.length << 1];
+			System.arraycopy(slabs, 0, grown, 1, slabCount);
+			slabs = grown;
+		} else {
+			System.arraycopy(slabs, 0, slabs, 1, slabCount);
+		}
+		slabs[0] = ByteBuffer.allocateDirect(recordsPerSlab() * stride);
+		slabCount++;
+		head += recordsPerSlab();
+	}
+
+	/**
+	 * Releases slabs that are not used by any element anymore. One unused slab is kept at each end, so a list that grows and shrinks around a slab border does not allocate a new slab every time.
+	 */
+	private void trim() {
+		if (size == 0) {
+			clear();
+			return;
+		}
+		int perSlab = recordsPerSlab();
+		while (head >= 2 * perSlab) {
+			DirectMemory.free(slabs[0]);
+			System.arraycopy(slabs, 1, slabs, 0, --slabCount);
+			slabs[slabCount] = null;
+			head -= perSlab;
+		}
+		long end = (long) head + size;
+		while (((long) slabCount - 2 << shift) >= end) {
+			DirectMemory.free(slabs[--slabCount]);
+			slabs[slabCount] = null;
+		}
+	}
+
+	@Override
+	public void put(T data) {
+		ensureSpaceAtEnd();
+		write((long) head + size, data);
+		size++;
+	}
+
+	@Override
+	public void push(T data) {
+		ensureSpaceAtStart();
+		write(--head, data);
+		size++;
+	}
+
+	@Override
+	public T take() {
+		if (size == 0) {
+			return null;
+		}
+		T data = read((long) head + --size);
+		trim();
+		return data;
+	}
+
+	@Override
+	public T pull() {
+		if (size == 0) {
+			return null;
+		}
+		T data = read(head++);
+		size--;
+		trim();
+		return data;
+	}
+
+	@Override
+	public T get(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return null;
+		}
+		return read((long) head + i);
+	}
+
+	@Override
+	public void set(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == size) {
+			//the index is immediately after the end, so the data is added as a new element
+			put(data);
+		} else {
+			write((long) head + i, data);
+		}
+	}
+
+	@Override
+	public void remove(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i < size / 2) {
+			//the records before the removed one are moved one up and the list starts one later
+			move(head, (long) head + 1, i);
+			head++;
+		} else {
+			//the records after the removed one are moved one down
+			move((long) head + i + 1, (long) head + i, size - i - 1);
+		}
+		size--;
+		trim();
+	}
+
+	@Override
+	public void insert(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i < size / 2) {
+			//the list starts one earlier and the records before the index are moved one down
+			ensureSpaceAtStart();
+			move(head, (long) head - 1, i);
+			head--;
+		} else {
+			//the records from the index on are moved one up
+			ensureSpaceAtEnd();
+			move((long) head + i, (long) head + i + 1, size - i);
+		}
+		write((long) head + i, data);
+		size++;
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		if (i < 0 || i >= size) {
+			//Do nothing, since index i is out of bounds for the List
+			return;
+		}
+		size = i + 1;
+		trim();
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		if (i < 0 || i >= size) {
+			//if the index is out of bounds the whole list is removed, just like in the other lists
+			clear();
+			return;
+		}
+		head += i;
+		size -= i;
+		trim();
+	}
+
+	@Override
+	public OffHeapList<T> splitAt(int i) {
+		OffHeapList<T> tail = new OffHeapList<T>(codec);
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List, or there is nothing after it
+			return tail;
+		}
+		if (i == 0) {
+			//all slabs are handed over to the new list
+			tail.slabs = slabs;
+			tail.slabCount = slabCount;
+			tail.head = head;
+			tail.size = size;
+			slabs = new ByteBuffer[4];
+			slabCount = 0;
+			head = 0;
+			size = 0;
+			return tail;
+		}
+		tail.copyRecords(this, i, size - i);
+		removeAfter(i - 1);
+		return tail;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void appendList(IList<? extends T> other) {
+		if (!(other instanceof OffHeapList) || ((OffHeapList<?>) other).codec != codec) {
+			IList.super.appendList(other);
+			return;
+		}
+		if (other == this) {
+			throw new IllegalArgumentException("A list cannot be appended to itself");
+		}
+		//both lists use the same codec, so the records can be copied as they are without decoding them
+		OffHeapList<T> list = (OffHeapList<T>) other;
+		copyRecords(list, 0, list.size);
+		list.clear();
+	}
+
+	/**
+	 * Copies records of another list with the same codec to the end of this list, without decoding them.
+	 * @param source the list the records are copied from
+	 * @param from the index of the first record to be copied
+	 * @param count the number of records to be copied
+	 */
+	private void copyRecords(OffHeapList<T> source, int from, int count) {
+		for (int j = 0; j < count; j++) {
+			ensureSpaceAtEnd();
+			long to = (long) head + size;
+			long position = (long) source.head + from + j;
+			slab(to).put(offset(to), source.slab(position), source.offset(position), stride);
+			size++;
+		}
+	}
+
+	@Override
+	public void clear() {
+		//releases all memory right away instead of leaving it to the Garbage Collector
+		for (int j = 0; j < slabCount; j++) {
+			DirectMemory.free(slabs[j]);
+			slabs[j] = null;
+		}
+		slabCount = 0;
+		head = 0;
+		size = 0;
+	}
+
+	@Override
+	public int length() {
+		return size;
+	}
+
+	@Override
+	public boolean isArrayBacked() {
+		return true;
+	}
+
+	/**
+	 * The list cannot be read while it is changed, since the slabs are freed by <code>clear</code> and <code>trim</code>, so a read racing them would read freed memory
+	 * @return always <code>false</code>
+	 */
+	@Override
+	public boolean allowsOptimisticReads() {
+		return false;
+	}
+
+	/**
+	 * Releases all memory of the list. The list is empty afterwards and could be used again, which would allocate new memory.
+	 */
+	@Override
+	public void close() {
+		clear();
+	}
+
+}
@@ -0,0 +1,107 @@
+package com.github.erdragh.structures;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * What <code>InstrumentedIList</code> has recorded for one operation: the latency of every call, and for lists that tell it, how many nodes every call walked.
+ * @author Erdragh
+ * @version 1.0
+ * @see InstrumentedIList
+ */
+public class OperationMetrics {
+
+	/**
+	 * The latencies of all calls in nanoseconds
+	 */
+	private final LatencyHistogram latency = new LatencyHistogram();
+	/**
+	 * The number of calls whose walked nodes are known
+	 */
+	private final LongAdder walks = new LongAdder();
+	/**
+	 * The number of nodes all calls walked together
+	 */
+	private final LongAdder steps = new LongAdder();
+	/**
+	 * The most nodes a single call walked
+	 */
+	private final LongAccumulator maxSteps = new LongAccumulator(Math::max, 0);
+	/**
+	 * The lengths of the list before all calls whose walked nodes are known, added up
+	 */
+	private final LongAdder lengths = new LongAdder();
+
+	OperationMetrics() {
+	}
+
+	/**
+	 * Records one call
+	 * @param nanos how long the call took
+	 * @param steps how many nodes the call walked, or <code>-1</code> if that is not known
+	 * @param length the length of the list before the call
+	 */
+	void record(long nanos, int steps, int length) {
+		latency.record(nanos);
+		if (steps >= 0) {
+			walks.increment();
+			this.steps.add(steps);
+			maxSteps.accumulate(steps);
+			lengths.add(length);
+		}
+	}
+
+	/**
+	 * A getter method
+	 * @return the histogram of the latencies of all calls in nanoseconds
+	 */
+	public LatencyHistogram latency() {
+		return latency;
+	}
+
+	/**
+	 * A getter method
+	 * @return the number of calls
+	 */
+	public long count() {
+		return latency.count();
+	}
+
+	/**
+	 * A getter method
+	 * @return the average number of nodes a call walked, or <code>0</code> if the list does not tell
+	 */
+	public double meanSteps() {
+		long n = walks.sum();
+		return n == 0 ? 0 : (double) steps.sum() / n;
+	}
+
+	/**
+	 * A getter method
+	 * @return the most nodes a single call walked
+	 */
+	public long maxSteps() {
+		return maxSteps.get();
+	}
+
+	/**
+	 * Compares the walked nodes to the length of the list. If this is close to <code>0</code>, calls walk a fixed number of nodes no matter how long the list is. If it is clearly above <code>0</code>, every call walks a share of the list, which means a loop calling this operation for every element takes quadratic time. Walking to random indexes of a single linked list for example gives about <code>0.5</code>.
+	 * @return the walked nodes of all calls divided by the lengths of the list before those calls, or <code>0</code> if the list does not tell
+	 */
+	public double stepRatio() {
+		long length = lengths.sum();
+		return length == 0 ? 0 : (double) steps.sum() / length;
+	}
+
+	/**
+	 * Forgets everything recorded so far
+	 */
+	public void reset() {
+		latency.reset();
+		walks.reset();
+		steps.reset();
+		maxSteps.reset();
+		lengths.reset();
+	}
+
+}
@@ -0,0 +1,493 @@
+package com.github.erdragh.structures;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A single linked list whose nodes never change once they are created. Every change builds a new version of the list that shares all nodes behind the changed position with the old version, just like a cons list. All versions end in the same stateless <code>EndNode</code>.
+ * Because nodes never change, a version of the list can be read by any number of threads without a lock, while the list itself already moved on to newer versions. <code>snapshot</code> hands out the current version as a list of its own in constant time, without copying anything.
+ * <p>
+ * <code>push</code> and <code>pull</code> only work on the start of the list, so they neither walk nor copy. A change at an index copies the nodes before that index and shares the rest, so the closer to the start a change is, the cheaper it is. <code>put</code> and <code>take</code> copy the whole list.
+ * <p>
+ * The current version is published through a volatile field, so readers always see a complete version. Changes to the same list object have to come from one thread at a time, otherwise one of two simultaneous changes may get lost.
+ * @author Erdragh
+ * @version 1.0
+ * @see SingleLinkedList
+ */
+
+public class PersistentList<T> implements IList<T> {
+
+	/**
+	 * The only <code>EndNode</code>. It stores nothing, so all lists and all versions can end in it.
+	 */
+	private static final EndNode<Object> END = new EndNode<Object>();
+
+	/**
+	 * The first node of the current version of the list. It is an <code>EndNode</code> while the list is empty.
+	 */
+	private volatile Node<T> start;
+
+	/**
+	 * Creates an empty list
+	 */
+	public PersistentList() {
+		start = end();
+	}
+
+	/**
+	 * Creates a list that starts with the given node, all following nodes are shared with whatever other list they belong to
+	 * @param start the first node of the list
+	 */
+	private PersistentList(Node<T> start) {
+		this.start = start;
+	}
+
+	/**
+	 * The base class for the two types of nodes. Nodes cannot be changed after they are created, so they can be shared between lists and versions of a list.
+	 */
+	private abstract static class Node<T> {
+		/**
+		 * A getter method
+		 * @return the next node if in a <code>DataNode</code> and the end node itself if in an <code>EndNode</code>
+		 */
+		public abstract Node<T> getNext();
+		/**
+		 * A getter method
+		 * @return the data if in a <code>DataNode</code> and null if in an <code>EndNode</code>
+		 */
+		public abstract T getData();
+		/**
+		 * Every node knows how many elements follow from it on, so the length of a version is known without counting and without a second field that would have to be published together with the start node.
+		 * @return the number of <code>DataNode</code>s from this node on, including this node
+		 */
+		public abstract int size();
+		/**
+		 * Used by the traversal to know when it has reached the end of the list.
+		 * @return <code>true</code> if this is an <code>EndNode</code>, <code>false</code> if it is a <code>DataNode</code>
+		 */
+		public abstract boolean isEnd();
+	}
+
+	/**
+	 * Inherits from <code>Node</code>, used to store data
+	 * @see Node
+	 */
+	private static class DataNode<T> extends Node<T> {
+
+		/**
+		 * The next <code>Node</code> in the list structure can be either of <code>DataNode</code> or <code>EndNode</code>
+		 */
+		private final Node<T> next;
+		/**
+		 * The data element stored in the node
+		 */
+		private final T data;
+		/**
+		 * The number of <code>DataNode</code>s from this node on
+		 */
+		private final int size;
+
+		/**
+		 * A simple constructor for creating a new node for data
+		 * @param next the node that will come after the one created in this constructor
+		 * @param data the data stored in the node
+		 */
+		public DataNode(Node<T> next, T data) {
+			this.next = next;
+			this.data = data;
+			this.size = next.size() + 1;
+		}
+
+		@Override
+		public Node<T> getNext() {
+			return next;
+		}
+
+		@Override
+		public T getData() {
+			return data;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean isEnd() {
+			return false;
+		}
+
+	}
+
+	/**
+	 * Inherits from <code>Node</code>, used for the logic at the end of the list. There is only one instance, see <code>END</code>.
+	 * @see Node
+	 */
+	private static class EndNode<T> extends Node<T> {
+
+		@Override
+		public Node<T> getNext() {
+			//There is nothing after the end, so the traversal stays here
+			return this;
+		}
+
+		@Override
+		public T getData() {
+			//Index out of bounds for the List
+			return null;
+		}
+
+		@Override
+		public int size() {
+			return 0;
+		}
+
+		@Override
+		public boolean isEnd() {
+			return true;
+		}
+
+	}
+
+	/**
+	 * A cursor that follows the nodes of the version the list had when the cursor was created. Changes made through the cursor are made to the list at the index of the current element. Since a change only copies the nodes before that index, the nodes the cursor still has to walk are the same in the new version.
+	 * @see ICursor
+	 */
+	private class NodeCursor implements ICursor<T> {
+		/**
+		 * The node the cursor is on, or <code>null</code> if it is not on an element
+		 */
+		private Node<T> current;
+		/**
+		 * The index of the element the cursor is on, or of the element before it if that was removed
+		 */
+		private int index = -1;
+		/**
+		 * The node the next call to <code>next</code> moves to
+		 */
+		private Node<T> upcoming;
+
+		/**
+		 * Creates a cursor before the given node
+		 * @param start the first node of the version to walk
+		 */
+		NodeCursor(Node<T> start) {
+			upcoming = start;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !upcoming.isEnd();
+		}
+
+		@Override
+		public T next() {
+			if (upcoming.isEnd()) {
+				throw new NoSuchElementException();
+			}
+			current = upcoming;
+			upcoming = current.getNext();
+			index++;
+			return current.getData();
+		}
+
+		@Override
+		public void set(T data) {
+			checkCurrent();
+			PersistentList.this.set(index, data);
+		}
+
+		@Override
+		public void remove() {
+			checkCurrent();
+			PersistentList.this.remove(index);
+			index--;
+			current = null;
+		}
+
+		@Override
+		public void insertBefore(T data) {
+			checkCurrent();
+			PersistentList.this.insert(index, data);
+			index++;
+		}
+
+		@Override
+		public void insertAfter(T data) {
+			checkCurrent();
+			PersistentList.this.insert(index + 1, data);
+			//the new node of the list is not reachable from the old version, so the cursor walks through an equal one
+			upcoming = new DataNode<T>(upcoming, data);
+		}
+
+		/**
+		 * Makes sure the cursor is on an element
+		 */
+		private void checkCurrent() {
+			if (current == null) {
+				throw new IllegalStateException("The cursor is not on an element");
+			}
+		}
+	}
+
+	/**
+	 * Gives back the shared <code>EndNode</code> for any type of data. This is safe, since the <code>EndNode</code> never hands out any data.
+	 * @return the only <code>EndNode</code>
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> Node<T> end() {
+		return (Node<T>) (Node<?>) END;
+	}
+
+	/**
+	 * The traversal engine of the list. Walks from the given node to the node at the given index in a simple loop.
+	 * @param node the node to start at, this is read from <code>start</code> once by the caller, so the whole operation works on the same version
+	 * @param i the index of the node to walk to
+	 * @return the node at the given index
+	 */
+	private static <T> Node<T> seek(Node<T> node, int i) {
+		for (int current = 0; current < i; current++) {
+			node = node.getNext();
+		}
+		return node;
+	}
+
+	/**
+	 * Builds the new version of the list for a change at an index. The nodes before the index are copied, since their links change, and the copies are linked to the given rest, which is shared.
+	 * @param from the first node of the old version
+	 * @param count the number of nodes to copy
+	 * @param rest the nodes that follow the copies
+	 * @return the first node of the new version
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> Node<T> copy(Node<T> from, int count, Node<T> rest) {
+		//nodes can only be created back to front, so the data is collected first
+		Object[] data = new Object[count];
+		for (int j = 0; j < count; j++) {
+			data[j] = from.getData();
+			from = from.getNext();
+		}
+		for (int j = count - 1; j >= 0; j--) {
+			rest = new DataNode<T>(rest, (T) data[j]);
+		}
+		return rest;
+	}
+
+	/**
+	 * Gives back the current version of the list as a list of its own. Nothing is copied, the new list shares all nodes with this one. Changes to either list do not show up in the other.
+	 * @return a list with the same elements as this list
+	 */
+	public PersistentList<T> snapshot() {
+		return new PersistentList<T>(start);
+	}
+
+	@Override
+	public void put(T data) {
+		Node<T> node = start;
+		start = copy(node, node.size(), new DataNode<T>(end(), data));
+	}
+
+	@Override
+	public void push(T data) {
+		//the new node links to the current start, which stays untouched
+		start = new DataNode<T>(start, data);
+	}
+
+	@Override
+	public T take() {
+		Node<T> node = start;
+		int size = node.size();
+		if (size == 0) {
+			return null;
+		}
+		T data = seek(node, size - 1).getData();
+		start = copy(node, size - 1, end());
+		return data;
+	}
+
+	@Override
+	public T pull() {
+		Node<T> node = start;
+		if (node.isEnd()) {
+			return null;
+		}
+		//the list simply starts one node later, the old start node stays valid for every snapshot that still uses it
+		start = node.getNext();
+		return node.getData();
+	}
+
+	@Override
+	public T get(int i) {
+		Node<T> node = start;
+		if (i < 0 || i >= node.size()) {
+			//Index out of bounds for the List
+			return null;
+		}
+		return seek(node, i).getData();
+	}
+
+	@Override
+	public void set(int i, T data) {
+		Node<T> node = start;
+		int size = node.size();
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == size) {
+			//the index is immediately after the end, so we will insert a new Node/Element in this place
+			put(data);
+		} else {
+			start = copy(node, i, new DataNode<T>(seek(node, i).getNext(), data));
+		}
+	}
+
+	@Override
+	public void remove(int i) {
+		Node<T> node = start;
+		if (i < 0 || i >= node.size()) {
+			//Index out of bounds for the List
+			return;
+		}
+		start = copy(node, i, seek(node, i).getNext());
+	}
+
+	@Override
+	public void insert(int i, T data) {
+		Node<T> node = start;
+		if (i < 0 || i > node.size()) {
+			//Index out of bounds for the List
+			return;
+		}
+		start = copy(node, i, new DataNode<T>(seek(node, i), data));
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		Node<T> node = start;
+		if (i < 0 || i >= node.size()) {
+			//Do nothing, since index i is out of bounds for the List
+			return;
+		}
+		start = copy(node, i + 1, end());
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		Node<T> node = start;
+		if (i < 0 || i >= node.size()) {
+			//if the index is out of bounds the whole list is removed, just like it always was
+			clear();
+			return;
+		}
+		//the nodes from the index on stay as they are, so nothing needs to be copied
+		start = seek(node, i);
+	}
+
+	@Override
+	public PersistentList<T> splitAt(int i) {
+		Node<T> node = start;
+		if (i < 0 || i >= node.size()) {
+			//Index out of bounds for the List, or there is nothing after it
+			return new PersistentList<T>();
+		}
+		PersistentList<T> tail = new PersistentList<T>(seek(node, i));
+		start = copy(node, i, end());
+		return tail;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void appendList(IList<? extends T> other) {
+		if (!(other instanceof PersistentList)) {
+			IList.super.appendList(other);
+			return;
+		}
+		if (other == this) {
+			throw new IllegalArgumentException("A list cannot be appended to itself");
+		}
+		//the nodes only ever hand out their data as T, so the nodes of the other list can be shared as they are
+		PersistentList<T> list = (PersistentList<T>) other;
+		Node<T> node = start;
+		start = copy(node, node.size(), list.start);
+		list.clear();
+	}
+
+	@Override
+	public void insertAll(int i, Iterable<? extends T> data) {
+		Node<T> node = start;
+		if (i < 0 || i > node.size()) {
+			//Index out of bounds for the List
+			return;
+		}
+		//the data is collected first, so reading this list itself as the data is safe
+		ArrayRingList<T> elements = new ArrayRingList<T>();
+		for (T element : data) {
+			elements.put(element);
+		}
+		if (elements.length() == 0) {
+			return;
+		}
+		Node<T> rest = seek(node, i);
+		for (int j = elements.length() - 1; j >= 0; j--) {
+			rest = new DataNode<T>(rest, elements.get(j));
+		}
+		start = copy(node, i, rest);
+	}
+
+	/**
+	 * Sorts the list by sorting its elements in an array and building a new version from it. No node can be shared, since every node changes its next node.
+	 * @param comparator decides the order of the elements, or <code>null</code> to use their natural order
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void sort(Comparator<? super T> comparator) {
+		Node<T> node = start;
+		Object[] data = new Object[node.size()];
+		for (int j = 0; j < data.length; j++) {
+			data[j] = node.getData();
+			node = node.getNext();
+		}
+		Arrays.sort((T[]) data, comparator);
+		Node<T> rest = end();
+		for (int j = data.length - 1; j >= 0; j--) {
+			rest = new DataNode<T>(rest, (T) data[j]);
+		}
+		start = rest;
+	}
+
+	@Override
+	public void clear() {
+		start = end();
+	}
+
+	@Override
+	public int length() {
+		return start.size();
+	}
+
+	@Override
+	public void forEach(Consumer<? super T> action) {
+		//walks one version of the list, changes made meanwhile do not show up
+		for (Node<T> node = start; !node.isEnd(); node = node.getNext()) {
+			action.accept(node.getData());
+		}
+	}
+
+	@Override
+	public Spliterator<T> spliterator() {
+		//the cursor and the size belong to the same version of the list
+		Node<T> node = start;
+		return new BatchSpliterator<T>(new NodeCursor(node), node.size());
+	}
+
+	@Override
+	public ICursor<T> cursor() {
+		return new NodeCursor(start);
+	}
+
+}
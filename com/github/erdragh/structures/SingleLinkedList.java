@@ -1,15 +1,25 @@
 package com.github.erdragh.structures;
 
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
 /**
  * An implementation of a single linked list that divides between structure and data and abstracts its list structure
  * @author Erdragh
- * @version 1.1
+ * @version 1.10
  * @see Node
  * @see DataNode
  * @see EndNode
  */
 
-public class SingleLinkedList<T> implements IList<T> {
+public class SingleLinkedList<T> implements IList<T>, ITraversalCost {
+
+	/**
+	 * The only <code>EndNode</code>. It does not store anything and ignores every change, so all lists can end in it and no list ever has to create one.
+	 * @see EndNode
+	 */
+	private static final EndNode<Object> END = new EndNode<Object>();
 
 	/**
 	 * This is the start node, in which the List stores it's first element. On initialization it is an <code>EndNode</code>.
@@ -18,116 +28,57 @@ public class SingleLinkedList<T> implements IList<T> {
 	 * @see DataNode
 	 */
 	private Node<T> start;
+	/**
+	 * This is the last <code>DataNode</code> of the list, so elements can be put at the end without walking there. It is <code>null</code> while the list is empty.
+	 * @see DataNode
+	 */
+	private Node<T> last;
+	/**
+	 * The number of <code>DataNode</code>s in the list. It is kept up to date by every operation, so the length never has to be counted.
+	 */
+	private int size;
+	/**
+	 * The first of the removed <code>DataNode</code>s that are kept to be used again, linked through their next node. It is <code>null</code> while there are none.
+	 * @see DataNode
+	 */
+	private Node<T> pool;
+	/**
+	 * The number of <code>DataNode</code>s in the pool
+	 */
+	private int pooled;
+	/**
+	 * The maximum number of <code>DataNode</code>s kept in the pool, <code>0</code> if removed nodes are simply left to the Garbage Collector
+	 */
+	private final int poolCapacity;
 
 	/**
-	 * A simple constructor setting the start <code>Node</code> to be an instance of <code>EndNode</code>
+	 * A simple constructor setting the start <code>Node</code> to be the shared <code>EndNode</code>. Removed nodes are not kept.
 	 * @see Node
 	 * @see EndNode
 	 */
 	public SingleLinkedList() {
-		start = new EndNode<T>();
+		this(0);
+	}
+
+	/**
+	 * Creates a list that keeps up to the given number of removed <code>DataNode</code>s and uses them again for new elements. A list that has data put in and taken out all the time then stops creating garbage once the pool has filled up.
+	 * The pool holds on to its nodes, but not to their data, so the memory for that many nodes stays in use even while the list is empty.
+	 * @param poolCapacity the maximum number of nodes to keep, <code>0</code> to not keep any
+	 * @see DataNode
+	 */
+	public SingleLinkedList(int poolCapacity) {
+		if (poolCapacity < 0) {
+			throw new IllegalArgumentException("The pool capacity cannot be negative: " + poolCapacity);
+		}
+		this.poolCapacity = poolCapacity;
+		start = end();
 	}
 
 	/**
 	 * A private class for the list structure. This is the base class for the two types of nodes. This implementation uses what in German would be called "Kompositum" and it distinctly divides structure and data.
+	 * The nodes only describe the structure, the traversal itself is done iteratively by the list, so the length of the list is not limited by the size of the call stack.
 	 */
 	private abstract static class Node<T> {
-		/**
-		 * This method adds the parameter to the end of the list
-		 * @param data the data that will be put into a <code>DataNode</code> at the end of the list.
-		 * @return a <code>Node</code> that is used to set the next attribute in the <code>DataNode</code> so the nodes do not need to know it's previous node.
-		 * @see DataNode
-		 */
-		public abstract Node<T> put(T data);
-		/**
-		 * This is the initial method for the process of "taking", which in this implementation means returning the data of the last element. Removing is done seperately in the List implementation, since the implementation of removing something also requires returning a <code>Node</code>, so that the next attribute can be set accordingly.
-		 * @return the data element of the last element of the list. If the first element of the list is an <code>EndNode</code> this will be <code>null</code>.
-		 * @see DataNode
-		 * @see EndNode
-		 */
-		public abstract T take();
-		/**
-		 * This is the actual recursive method for getting the data from the last element of the List.
-		 * @param current the data of the previous node that called this method. This is used in the <code>EndNode</code> to actually return the relevant data.
-		 * @return the data element of the last element of the List.
-		 * @see DataNode
-		 * @see EndNode
-		 */
-		public abstract T take(T current);
-		
-		/**
-		 * Recursively goes through the elements of the list.
-		 * @param i the index from which the data will be returned
-		 * @param current a helping parameter for the recursive nature of this function. It stores on which index we're currently.
-		 * @return the data on the specified index
-		 * @see DataNode
-		 * @see EndNode
-		 */
-		public abstract T get(int i, int current);
-		/**
-		 * This will set the data on the specified index to the given one.
-		 * @param i the index on which the data will be inserted. If this is the index immediately after the end a new <code>Node</code> will be created in the <code>EndNode</code>
-		 * @param current a helping parameter for the recursive nature of this function. It stores on which index we're currently.
-		 * @param data the data to be inserted
-		 * @return a <code>Node</code> that is used to set the next attribute in the <code>DataNode</code> so the nodes do not need to know its previous nodes
-		 * @see DataNode
-		 * @see EndNode
-		 */
-		public abstract Node<T> set(int i, int current, T data);
-
-		/**
-		 * Removes the node at the given position.
-		 * @param i the index of the data to be removed
-		 * @param current a helping parameter for the recursive nature of this function. It stores on which index we're currently.
-		 * @return a <code>Node</code> that is used to set the next attribute in the <code>DataNode</code> so the nodes do not need to know its previous nodes
-		 * @see DataNode
-		 * @see EndNode
-		 */
-		public abstract Node<T> remove(int i, int current);
-		/**
-		 * Inserts the given data at the specified index in the list. This method does not replace the node at the index, it simply moves all data that comes after one index up. To replace the data at a given index, use the <code>set</code> method.
-		 * @param i the index where the data is to be inserted
-		 * @param current a helping parameter for the recursive nature of this function. It stores on which index we're currently.
-		 * @param data the data to be inserted at the specified index
-		 * @return a <code>Node</code> that is used to set the next attribute in the <code>DataNode</code> so the nodes do not need to know its previous nodes
-		 * @see DataNode
-		 * @see EndNode
-		 */
-		public abstract Node<T> insert(int i, int current, T data);
-
-		/**
-		 * Removes all nodes after the given index
-		 * @param i the index after which all nodes will be removed
-		 * @param current a helping parameter for the recursive nature of this function. It stores on which index we're currently.
-		 * @see DataNode
-		 * @see EndNode
-		 */
-		public abstract void removeAfter(int i, int current);
-		/**
-		 * Removes all nodes before a given index
-		 * @param i the index before which all nodes will be removed
-		 * @param current a helping parameter for the recursive nature of this function. It stores on which index we're currently.
-		 * @return a <code>Node</code> that is used to set the next attribute in the <code>DataNode</code> so the nodes do not need to know its previous nodes
-		 * @see DataNode
-		 * @see EndNode
-		 */
-		public abstract Node<T> removeBefore(int i, int current);
-		//Disabled because it does not work and is not needed
-		// /**
-		//  * Removes the last element of the list, this is the init method
-		//  * @return a node for the caller to set to next.
-		//  */
-		// public abstract Node<T> removeLast();
-		// /**
-		//  * Removes the last element of the list, this is the actual recursive method, to init this, call the init method.
-		//  * @return a <code>Node</code> that is used to set the next attribute in the <code>DataNode</code> so the nodes do not need to know its previous nodes
-		//  * @param caller the node that called the method recursively
-		//  * @param prev the node before the node that called the methord recursively
-		//  * @see DataNode
-		//  * @see EndNode
-		//  */
-		// public abstract Node<T> removeLast(Node<T> caller, Node<T> prev);
-
 		/**
 		 * A getter method
 		 * @return the next node if in a <code>DataNode</code> and the end node itself if in an <code>EndNode</code>
@@ -150,11 +101,19 @@ public class SingleLinkedList<T> implements IList<T> {
 		 */
 		public abstract T getData();
 		/**
-		 * Recursively counts the number of nodes in the list.
-		 * @param current a counter for the method to store how many nodes there have been so far.
-		 * @return the count of nodes in the list
+		 * A setter method
+		 * @param data the new data for a <code>DataNode</code>. Will not do anything in <code>EndNode</code>
+		 * @see DataNode
+		 * @see EndNode
 		 */
-		public abstract int count(int current);
+		public abstract void setData(T data);
+		/**
+		 * Used by the traversal to know when it has reached the end of the list.
+		 * @return <code>true</code> if this is an <code>EndNode</code>, <code>false</code> if it is a <code>DataNode</code>
+		 * @see DataNode
+		 * @see EndNode
+		 */
+		public abstract boolean isEnd();
 	}
 
 	/**
@@ -185,345 +144,988 @@ public class SingleLinkedList<T> implements IList<T> {
 		public DataNode(Node<T> next, T data){
 			this.next = next;
 			this.data = data;
-		} //187
+		}
 
 		@Override
 		public Node<T> getNext() {
 			return next;
 		}
 
+		@Override
+		public void setNext(Node<T> next) {
+			this.next = next;
+		}
+
 		@Override
 		public T getData() {
 			return data;
 		}
 
 		@Override
-		public Node<T> put(T data) {
-			/*
-			The next node will be determined by the next node itself with this recursive call, as results differ depending on whether next node is a DataNode or an EndNode.
-			*/
-			next = next.put(data);
+		public void setData(T data) {
+			this.data = data;
+		}
+
+		@Override
+		public boolean isEnd() {
+			return false;
+		}
+
+	}
+
+	/**
+	 * Inherits from <code>Node</code>, used for the logic at the end of the list.
+	 * @see Node
+	 */
+	private static class EndNode<T> extends Node<T> {
+
+		@Override
+		public Node<T> getNext() {
+			//There is nothing after the end, so the traversal stays here
 			return this;
 		}
 
 		@Override
-		public T take() {
-			/*
-			As this is the init method it will start the recursive call for returning the last data element in the list
-			*/
-			return next.take(data);
+		public void setNext(Node<T> next) {
+			//Do nothing, since the EndNode does not have another node after it
 		}
 
 		@Override
-		public T take(T current) {
-			/*
-			As this is the actual recursive method we will always give this node's data so that when we reach the EndNode the data to be returned will be the last one before the EndNode.
-			*/
-			return next.take(data);
+		public T getData() {
+			//Index out of bounds for the List
+			return null;
 		}
 
 		@Override
-		public T get(int i, int current) {
-			/*
-			We will return this node's data if it is the one we're looking for, if not we will recursively call this method for the next node
-			*/
-			return (i == current++) ? data : next.get(i, current);
+		public void setData(T data) {
+			//Do nothing, since the EndNode does not store any data
 		}
 
 		@Override
-		public Node<T> set(int i, int current, T data) {
-			/*
-			If the specified index is this node, its data will be replaced with the given one. If not this method will be recursively called for the next node.
-			*/
-			if (i == current++) {
-				this.data = data;
-			} else {
-				next = next.set(i, current, data);
-			}
-			//returns this node, because this method needs to return a Node for the special case in the EndNode to work.
-			return this;
+		public boolean isEnd() {
+			return true;
+		}
+
+	}
+
+	/**
+	 * A cursor that follows the nodes of the list, so a whole pass over the list only walks it once.
+	 * @see ICursor
+	 */
+	private class NodeCursor implements ICursor<T> {
+		/**
+		 * The node before the one the cursor is on, or <code>null</code> if the cursor is on the start node
+		 */
+		private Node<T> before;
+		/**
+		 * The node the cursor is on, or <code>null</code> if it is not on an element
+		 */
+		private Node<T> current;
+		/**
+		 * The last node before <code>upcoming</code> that is still in the list, or <code>null</code> if <code>upcoming</code> is the start node
+		 */
+		private Node<T> passed;
+		/**
+		 * The node the next call to <code>next</code> moves to
+		 */
+		private Node<T> upcoming;
+		/**
+		 * The number of elements the cursor has yet to walk over
+		 */
+		private int remaining;
+		/**
+		 * The view the cursor walks through, which has to learn about every element added or removed, or <code>null</code> if the cursor walks through the whole list
+		 */
+		private final NodeSubList view;
+
+		/**
+		 * Creates a cursor before the first element of the list
+		 */
+		NodeCursor() {
+			this(null, size, null);
+		}
+
+		/**
+		 * Creates a cursor that walks over a part of the list
+		 * @param passed the node before the first element the cursor walks over, or <code>null</code> to start at the beginning of the list
+		 * @param remaining the number of elements the cursor walks over
+		 * @param view the view the cursor walks through, or <code>null</code>
+		 */
+		NodeCursor(Node<T> passed, int remaining, NodeSubList view) {
+			this.passed = passed;
+			this.upcoming = passed == null ? start : passed.getNext();
+			this.remaining = remaining;
+			this.view = view;
 		}
 
 		@Override
-		public Node<T> remove(int i, int current) {
-			/*
-			If this is the node to be removed, give back the next attribute as a return value so that the previous node will have a reference to that instead of this node.
-			*/
-			if (i == current++) {
-				return next;
-			} else {
-				/*
-				If this is not the node to be removed then set the next attribute to whatever a recursive method call of this method in the next node returns. Returns itself so that the method can run recursively through the list and not interrupt the structure.
-				*/
-				next = next.remove(i, current);
-				return this;
-			}
+		public boolean hasNext() {
+			return remaining > 0;
 		}
 
 		@Override
-		public Node<T> insert(int i, int current, T data) {
-			/*
-			if this is the index where the new data is to be inserted, make a new node to with this node as its next reference and return it so the previous node has a reference to the newly created node instead of this one.
-			*/
-			if (i == current++) {
-				return new DataNode<T>(this, data);
-			} else {
-				/*
-				if this is not the index where the node is to be removed set the next attribute to the return value of this method recursively called on the current next attribute. Returns itself so that the method can run recursively through the list and not interrupt the structure.
-				*/
-				next = next.insert(i, current, data);
-				return this;
+		public T next() {
+			if (remaining <= 0) {
+				throw new NoSuchElementException();
 			}
+			before = passed;
+			current = upcoming;
+			passed = current;
+			upcoming = current.getNext();
+			remaining--;
+			return current.getData();
 		}
 
 		@Override
-		public void removeAfter(int i, int current) {
-			/*
-			if this is the index after which all is removed, set the reference to the next attribute to an EndNode, so the Garbage Collector eventually removes all leftover data.
-			*/
-			if (i == current++) {
-				next = new EndNode<T>();
-			} else {
-				/*
-				if this is not the index after which all will be removed, recursively call this method for the next node.
-				*/
-				next.removeAfter(i, current);
-			}
+		public void set(T data) {
+			checkCurrent();
+			current.setData(data);
 		}
 
 		@Override
-		public Node<T> removeBefore(int i, int current) {
-			/*
-			if this is the node before which all is to be removed recursively return a reference to this node to the list for it to set its start reference to this node. This will result in all previous elements being discarded and eventually removed by the Garbage Collector
-			*/
-			if (i == current++) {
-				return this;
+		public void remove() {
+			checkCurrent();
+			if (before == null) {
+				start = current.getNext();
 			} else {
-				/*
-				if this is not the node before which all is to be removed recursively call this method in the next node in order to find and return the needed node.
-				*/
-				return next.removeBefore(i, current);
+				before.setNext(current.getNext());
+			}
+			if (current == last) {
+				last = before;
+			}
+			size--;
+			passed = before;
+			//the cursor already knows the upcoming node, so the removed one can be used again
+			recycle(current);
+			current = null;
+			if (view != null) {
+				view.resize(-1);
 			}
 		}
 
-		// @Override
-		// public Node<T> removeLast() {
-		// 	//inits the recurive method
-		// 	if (next.removeLast() != null) {
-		// 		//this method call will have the next (usually second) node set the next attribute for this node (usually the start node) twice. This does still work, the fact that we give this node as the parameter twice is intended!
-		// 		next.removeLast(this, this);
-		// 		//returns this node so the list can set its start node to the correct node
-		// 		return this;
-		// 	} else {
-		// 		//this is only executed if the start node is also the last datanode. This will return the EndNode to the list so the start node is an EndNode
-		// 		return next;
-		// 	}
-		// }
-
-		// @Override
-		// public Node<T> removeLast(Node<T> caller, Node<T> prev) {
-		// 	//Sets the next attribute to the return value of a recursive call to this method on the next attribute. This is done in order for the EndNode to be able to 
-		// 	prev.setNext(caller);
-		// 	caller.setNext(this);
-		// 	next = next.removeLast(this, caller);
-		// 	return this;
-		// }
-
 		@Override
-		public void setNext(Node<T> next) {
-			this.next = next;
+		public void insertBefore(T data) {
+			checkCurrent();
+			Node<T> node = node(current, data);
+			if (before == null) {
+				start = node;
+			} else {
+				before.setNext(node);
+			}
+			before = node;
+			size++;
+			if (view != null) {
+				view.resize(1);
+			}
 		}
 
 		@Override
-		public int count(int current) {
-			//Counts up so the EndNode can return the actual value.
-			return next.count(++current);
+		public void insertAfter(T data) {
+			checkCurrent();
+			Node<T> node = node(current.getNext(), data);
+			current.setNext(node);
+			if (current == last) {
+				last = node;
+			}
+			upcoming = node;
+			remaining++;
+			size++;
+			if (view != null) {
+				view.resize(1);
+			}
 		}
 
+		/**
+		 * Makes sure the cursor is on an element
+		 */
+		private void checkCurrent() {
+			if (current == null) {
+				throw new IllegalStateException("The cursor is not on an element");
+			}
+		}
 	}
 
 	/**
-	 * Inherits from <code>Node</code>, used for the logic at the end of the list.
-	 * @see Node
+	 * A view of a range of the list. It remembers the node in front of the range, so every index is walked to from there, and passes every change on to the list and to the view it was created from, if any.
+	 * @see IList#subList(int, int)
 	 */
-	private static class EndNode<T> extends Node<T> {
+	private class NodeSubList implements IList<T> {
+		/**
+		 * The node in front of the range, or <code>null</code> if the range starts at the beginning of the list
+		 */
+		private final Node<T> anchor;
+		/**
+		 * The number of elements in the view
+		 */
+		private int count;
+		/**
+		 * The view this one was created from, or <code>null</code> if it was created from the list
+		 */
+		private final NodeSubList parent;
+
+		/**
+		 * Creates a view of a range of the list
+		 * @param anchor the node in front of the range, or <code>null</code> if the range starts at the beginning of the list
+		 * @param count the number of elements in the view
+		 * @param parent the view this one is created from, or <code>null</code>
+		 */
+		NodeSubList(Node<T> anchor, int count, NodeSubList parent) {
+			this.anchor = anchor;
+			this.count = count;
+			this.parent = parent;
+		}
+
+		/**
+		 * Changes the number of elements in this view and every view it was created from
+		 * @param delta the number of elements added, or removed if it is negative
+		 */
+		private void resize(int delta) {
+			for (NodeSubList view = this; view != null; view = view.parent) {
+				view.count += delta;
+			}
+		}
+
+		/**
+		 * Walks to the node in front of the given index of the view
+		 * @param i the index, from 0 up to the length of the view
+		 * @return the node in front of the index, which is the anchor for index 0
+		 */
+		private Node<T> before(int i) {
+			Node<T> node = anchor;
+			for (int j = 0; j < i; j++) {
+				node = node == null ? start : node.getNext();
+			}
+			return node;
+		}
+
+		/**
+		 * Walks to the node at the given index of the view
+		 * @param i the index, it has to be in bounds
+		 * @return the node at the index
+		 */
+		private Node<T> at(int i) {
+			Node<T> node = before(i);
+			return node == null ? start : node.getNext();
+		}
 
 		@Override
-		public Node<T> put(T data) {
-			//returns the new DataNode with the given data so the previous node can set it as its next attribute.
-			return new DataNode<T>(this, data);
+		public void put(T data) {
+			insert(count, data);
+		}
+
+		@Override
+		public void push(T data) {
+			insert(0, data);
 		}
 
 		@Override
 		public T take() {
-			//the only case this will be called is if the List has its start reference set to be an EndNode, e.g. no data is in the list.
-			return null;
+			if (count == 0) {
+				return null;
+			}
+			Node<T> prev = before(count - 1);
+			T data = (prev == null ? start : prev.getNext()).getData();
+			unlinkAfter(prev, 1);
+			resize(-1);
+			return data;
 		}
 
 		@Override
-		public T take(T current) {
-			//returns the data given to it from the previous node for it to be recursively returned to the list
-			return current;
+		public T pull() {
+			if (count == 0) {
+				return null;
+			}
+			T data = at(0).getData();
+			unlinkAfter(anchor, 1);
+			resize(-1);
+			return data;
 		}
 
 		@Override
-		public T get(int i, int current) {
-			//Index out of bounds for the List
-			return null;
+		public T get(int i) {
+			if (i < 0 || i >= count) {
+				//Index out of bounds for the view
+				return null;
+			}
+			return at(i).getData();
 		}
 
 		@Override
-		public Node<T> set(int i, int current, T data) {
-			//Index out of bounds for the List
-			if (i == current) {
-				//but the index i immediately after the end, so we will insert a new Node/Element in this place
-				return new DataNode<T>(this, data);
+		public void set(int i, T data) {
+			if (i < 0 || i > count) {
+				//Index out of bounds for the view
+				return;
+			}
+			if (i == count) {
+				//the index is immediately after the end, so the data is added as a new element
+				put(data);
 			} else {
-				//pretty much do nothing
-				return this;
+				at(i).setData(data);
 			}
 		}
 
 		@Override
-		public Node<T> remove(int i, int current) {
-			//Index out of bounds for the List
-			return this;
+		public void remove(int i) {
+			if (i < 0 || i >= count) {
+				//Index out of bounds for the view
+				return;
+			}
+			unlinkAfter(before(i), 1);
+			resize(-1);
 		}
 
 		@Override
-		public Node<T> insert(int i, int current, T data) {
-			//Index out of bounds for the List
-			if (i == current) {
-				//The index i is immediately after the end, so we will insert a new Node/Element in this place
-				return new DataNode<T>(this, data);
-			} else {
-				//pretty much do nothing
-				return this;
+		public void insert(int i, T data) {
+			if (i < 0 || i > count) {
+				//Index out of bounds for the view
+				return;
 			}
+			linkAfter(before(i), data);
+			resize(1);
 		}
 
 		@Override
-		public Node<T> getNext() {
-			return this;
+		public void removeAfter(int i) {
+			if (i < 0 || i >= count) {
+				//Do nothing, since index i is out of bounds for the view
+				return;
+			}
+			removeRange(i + 1, count);
 		}
 
 		@Override
-		public T getData() {
-			return null;
+		public void removeBefore(int i) {
+			if (i < 0 || i >= count) {
+				//if the index is out of bounds the whole view is removed, just like in the list
+				clear();
+				return;
+			}
+			removeRange(0, i);
 		}
 
 		@Override
-		public void removeAfter(int i, int current) {
-			//Do nothing, since index i is out of bounds for the List
+		public void removeRange(int from, int to) {
+			if (from < 0 || to > count || from >= to) {
+				//Range out of bounds for the view, or empty
+				return;
+			}
+			unlinkAfter(before(from), to - from);
+			resize(from - to);
 		}
 
+		/**
+		 * A view cannot be split, since the elements after the index would have to leave the list
+		 * @throws UnsupportedOperationException always
+		 */
 		@Override
-		public Node<T> removeBefore(int i, int current) {
-			//Give the reference to the end node (this) to the list recursively, effectively clearing the list.
-			return this;
+		public IList<T> splitAt(int i) {
+			throw new UnsupportedOperationException("A sub list cannot be split");
+		}
+
+		@Override
+		public void insertAll(int i, Iterable<? extends T> data) {
+			if (i < 0 || i > count) {
+				//Index out of bounds for the view
+				return;
+			}
+			if (data == this || data == SingleLinkedList.this) {
+				//the list would grow while it is read, so it is copied first
+				ArrayRingList<T> copy = new ArrayRingList<T>();
+				copy.putAll(data);
+				data = copy;
+			}
+			//walks to the index once and links every element in after the one before
+			Node<T> prev = before(i);
+			int added = 0;
+			for (T element : data) {
+				prev = linkAfter(prev, element);
+				added++;
+			}
+			resize(added);
+		}
+
+		@Override
+		public IList<T> subList(int from, int to) {
+			if (from < 0 || to > count || from > to) {
+				throw new IllegalArgumentException("Illegal range: " + from + " to " + to);
+			}
+			return new NodeSubList(before(from), to - from, this);
 		}
 
-		// @Override
-		// public Node<T> removeLast() {
-		// 	//return null for the test in the init method in the DataNode
-		// 	return null;
-		// }
+		@Override
+		public void clear() {
+			removeRange(0, count);
+		}
 
-		// @Override
-		// public Node<T> removeLast(Node<T> caller, Node<T> prev) {
-		// 	//doesnt set the callers next, instead sets the node before the caller's next. This removes all references to the last DataNode, therefore having them be deleted with the Garbage Collector
-		// 	prev.setNext(this);
-		// 	return null;
-		// }
+		@Override
+		public int length() {
+			return count;
+		}
 
 		@Override
-		public void setNext(Node<T> next) {
-			//Do nothing, since the EndNode does not have another node after it
+		public ICursor<T> cursor() {
+			return new NodeCursor(anchor, count, this);
 		}
 
 		@Override
-		public int count(int current) {
-			//Returns the count that has been counted up to in current
-			return current;
+		public Spliterator<T> spliterator() {
+			return new BatchSpliterator<T>(cursor(), count);
 		}
+	}
 
+	/**
+	 * Gives back the shared <code>EndNode</code> for any type of data. This is safe, since the <code>EndNode</code> never hands out any data and ignores every change.
+	 * @return the only <code>EndNode</code>
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> Node<T> end() {
+		return (Node<T>) (Node<?>) END;
+	}
+
+	/**
+	 * Creates a <code>DataNode</code>, or takes one from the pool if there is one
+	 * @param next the node that will come after the new one
+	 * @param data the data stored in the new node
+	 * @return a node holding the given data and linking to the given next node
+	 */
+	private Node<T> node(Node<T> next, T data) {
+		if (pool == null) {
+			return new DataNode<T>(next, data);
+		}
+		Node<T> node = pool;
+		pool = node.getNext();
+		pooled--;
+		node.setNext(next);
+		node.setData(data);
+		return node;
+	}
+
+	/**
+	 * Keeps a removed <code>DataNode</code> to be used again, if the pool is not full yet. The data is let go of, so the pool does not keep it from the Garbage Collector.
+	 * @param node the removed node, which must not be reachable from the list anymore
+	 * @return <code>true</code> if the node was kept, <code>false</code> if the pool was full
+	 */
+	private boolean recycle(Node<T> node) {
+		if (pooled >= poolCapacity) {
+			return false;
+		}
+		node.setData(null);
+		node.setNext(pool);
+		pool = node;
+		pooled++;
+		return true;
+	}
+
+	/**
+	 * Keeps the nodes of a removed chain until the pool is full. The rest of the chain is left to the Garbage Collector, so this never walks further than the pool has room for.
+	 * @param node the first node of the removed chain
+	 * @param count the number of nodes in the removed chain
+	 */
+	private void recycle(Node<T> node, int count) {
+		for (; count > 0 && pooled < poolCapacity; count--) {
+			Node<T> next = node.getNext();
+			recycle(node);
+			node = next;
+		}
+	}
+
+	/**
+	 * The traversal engine of the list. Walks from the start node to the node at the given index in a simple loop.
+	 * @param i the index of the node to walk to, this has to be in bounds, which every caller checks beforehand
+	 * @return the <code>DataNode</code> at the given index
+	 * @see DataNode
+	 */
+	private Node<T> seek(int i) {
+		if (i == size - 1) {
+			//the last node is known, so there is no need to walk there
+			return last;
+		}
+		Node<T> node = start;
+		for (int current = 0; current < i; current++) {
+			node = node.getNext();
+		}
+		return node;
+	}
+
+	/**
+	 * Links a new node in after the given one
+	 * @param prev the node the new one comes after, or <code>null</code> to link it in at the beginning of the list
+	 * @param data the data stored in the new node
+	 * @return the new node
+	 */
+	private Node<T> linkAfter(Node<T> prev, T data) {
+		Node<T> node;
+		if (prev == null) {
+			node = node(start, data);
+			start = node;
+		} else {
+			node = node(prev.getNext(), data);
+			prev.setNext(node);
+		}
+		if (prev == last) {
+			//this also covers the empty list, where both are null
+			last = node;
+		}
+		size++;
+		return node;
+	}
+
+	/**
+	 * Unlinks a run of nodes after the given one, walking only over the run itself
+	 * @param prev the node before the run, or <code>null</code> if the run starts at the beginning of the list
+	 * @param count the number of nodes in the run, there have to be at least that many after <code>prev</code>
+	 */
+	private void unlinkAfter(Node<T> prev, int count) {
+		if (count <= 0) {
+			return;
+		}
+		Node<T> removed = prev == null ? start : prev.getNext();
+		Node<T> runEnd = removed;
+		for (int j = 1; j < count; j++) {
+			runEnd = runEnd.getNext();
+		}
+		if (prev == null) {
+			start = runEnd.getNext();
+		} else {
+			prev.setNext(runEnd.getNext());
+		}
+		if (runEnd == last) {
+			last = prev;
+		}
+		size -= count;
+		//the run still links to the nodes after it, but recycling stops after its last node
+		recycle(removed, count);
 	}
 
 	@Override
 	public void put(T data) {
-		//starts a recursive method. Sets start to be the return value since the start node may change if this is the first time data is inserted
-		start = start.put(data);
+		if (last == null) {
+			//the list is empty, so the new node will be the start node
+			start = node(start, data);
+			last = start;
+		} else {
+			//puts the new node between the last DataNode and the EndNode
+			Node<T> node = node(last.getNext(), data);
+			last.setNext(node);
+			last = node;
+		}
+		size++;
 	}
 
 	@Override
 	public void push(T data) {
 		//Creates a new node that will be the new start, of which the next attribute will be the previous start. This way the element at the beginning of the list will be the new node.
-		start = new DataNode<T>(start, data);
+		start = node(start, data);
+		if (last == null) {
+			last = start;
+		}
+		size++;
 	}
 
 	@Override
 	public T take() {
-		//Since this method is supposed to return the data and remove the last element. Since this is not really possible with a recursive method in a single link list we will first get the data then store it temporarily, then delete the last element (this is the hardest part, since it's only really possible in a double link list, which is why the actual method half resembles a double linked list)
-		T data = start.take();
-		// start.removeLast();
-		remove(length()-1);
+		if (size <= 1) {
+			//there is at most one element, which means taking is the same as pulling
+			return pull();
+		}
+		//walks to the second to last node once, so the last one can be unlinked. A DoubleLinkedList knows it without walking
+		Node<T> prev = seek(size - 2);
+		T data = last.getData();
+		prev.setNext(last.getNext());
+		recycle(last);
+		last = prev;
+		size--;
 		return data;
 	}
 
 	@Override
 	public T pull() {
+		if (size == 0) {
+			return null;
+		}
 		//Temporarily stores the data from the start node and then puts the reference to be the next node after the start node.
-		T data = start.getData();
-		start = start.getNext();
+		Node<T> removed = start;
+		T data = removed.getData();
+		start = removed.getNext();
+		if (--size == 0) {
+			last = null;
+		}
+		recycle(removed);
 		return data;
 	}
 
 	@Override
 	public T get(int i) {
-		//inits the recursive method
-		return start.get(i, 0);
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return null;
+		}
+		return seek(i).getData();
 	}
 
 	@Override
 	public void set(int i, T data) {
-		//inits the recusrive method. The setting of the start node is in case of the special case scenario where a new node will be created at the end.
-		start = start.set(i, 0, data);
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == size) {
+			//the index is immediately after the end, so we will insert a new Node/Element in this place
+			put(data);
+		} else {
+			seek(i).setData(data);
+		}
 	}
 
 	@Override
 	public void remove(int i) {
-		//inits the recursive method
-		start = start.remove(i, 0);
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == 0) {
+			pull();
+			return;
+		}
+		Node<T> prev = seek(i - 1);
+		Node<T> removed = prev.getNext();
+		//the previous node skips the removed one, so the Garbage Collector eventually removes it
+		prev.setNext(removed.getNext());
+		if (removed == last) {
+			last = prev;
+		}
+		size--;
+		recycle(removed);
 	}
 
 	@Override
 	public void insert(int i, T data) {
-		//inits the recursive method
-		start = start.insert(i, 0, data);
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == 0) {
+			push(data);
+		} else if (i == size) {
+			put(data);
+		} else {
+			Node<T> prev = seek(i - 1);
+			prev.setNext(node(prev.getNext(), data));
+			size++;
+		}
 	}
 
 	@Override
 	public void removeAfter(int i) {
-		//inits the recursive method
-		start.removeAfter(i, 0);
+		if (i < 0 || i >= size) {
+			//Do nothing, since index i is out of bounds for the List
+			return;
+		}
+		Node<T> node = seek(i);
+		Node<T> removed = node.getNext();
+		//links the node directly to the EndNode, so the Garbage Collector eventually removes all leftover data.
+		node.setNext(end());
+		last = node;
+		recycle(removed, size - i - 1);
+		size = i + 1;
 	}
 
 	@Override
 	public void removeBefore(int i) {
-		//inits the recursive method
-		start = start.removeBefore(i, 0);
+		if (i < 0 || i >= size) {
+			//if the index is out of bounds the whole list is removed, just like it always was
+			clear();
+			return;
+		}
+		Node<T> removed = start;
+		start = seek(i);
+		size -= i;
+		recycle(removed, i);
+	}
+
+	/**
+	 * Removes the elements in the range by walking to the node before it and unlinking the whole run of nodes at once, so the list is walked only once up to the end of the range.
+	 * @param from the index of the first element to be removed
+	 * @param to the index after the last element to be removed. If the range is not inside the list nothing is removed
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		if (from < 0 || to > size || from >= to) {
+			//Range out of bounds for the List, or empty
+			return;
+		}
+		unlinkAfter(from == 0 ? null : seek(from - 1), to - from);
+	}
+
+	@Override
+	public SingleLinkedList<T> splitAt(int i) {
+		SingleLinkedList<T> tail = new SingleLinkedList<T>(poolCapacity);
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List, or there is nothing after it
+			return tail;
+		}
+		if (i == 0) {
+			//the whole chain of nodes moves to the new list
+			tail.start = start;
+			tail.last = last;
+			tail.size = size;
+			//the nodes now belong to the new list, so they must not end up in the pool
+			start = end();
+			last = null;
+			size = 0;
+			return tail;
+		}
+		//cuts the chain after the node before the index, both parts end in the same stateless EndNode
+		Node<T> prev = seek(i - 1);
+		tail.start = prev.getNext();
+		tail.last = last;
+		tail.size = size - i;
+		prev.setNext(end());
+		last = prev;
+		size = i;
+		return tail;
+	}
+
+	/**
+	 * Creates a view of the range that remembers the node in front of it, so reaching an index of the view only walks from the start of the range and its cursor walks the range once.
+	 * @param from the index of the first element of the view
+	 * @param to the index after the last element of the view
+	 * @return a view of the range
+	 */
+	@Override
+	public IList<T> subList(int from, int to) {
+		if (from < 0 || to > size || from > to) {
+			throw new IllegalArgumentException("Illegal range: " + from + " to " + to);
+		}
+		return new NodeSubList(from == 0 ? null : seek(from - 1), to - from, null);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void appendList(IList<? extends T> other) {
+		if (!(other instanceof SingleLinkedList)) {
+			IList.super.appendList(other);
+			return;
+		}
+		if (other == this) {
+			throw new IllegalArgumentException("A list cannot be appended to itself");
+		}
+		//the nodes only ever hand out their data as T, so the chain of the other list can be taken over as it is
+		SingleLinkedList<T> list = (SingleLinkedList<T>) other;
+		if (list.size == 0) {
+			return;
+		}
+		if (size == 0) {
+			start = list.start;
+		} else {
+			last.setNext(list.start);
+		}
+		last = list.last;
+		size += list.size;
+		//the nodes now belong to this list, so they must not end up in the pool of the other list
+		list.start = end();
+		list.last = null;
+		list.size = 0;
+	}
+
+	@Override
+	public void insertAll(int i, Iterable<? extends T> data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		//builds a separate chain first, so reading this list itself as the data is safe, then links the whole chain in at once
+		Node<T> first = null;
+		Node<T> chainEnd = null;
+		int count = 0;
+		for (T element : data) {
+			Node<T> node = node(null, element);
+			if (first == null) {
+				first = node;
+			} else {
+				chainEnd.setNext(node);
+			}
+			chainEnd = node;
+			count++;
+		}
+		if (count == 0) {
+			return;
+		}
+		Node<T> prev = i == 0 ? null : seek(i - 1);
+		if (prev == null) {
+			chainEnd.setNext(start);
+			start = first;
+		} else {
+			chainEnd.setNext(prev.getNext());
+			prev.setNext(first);
+		}
+		if (i == size) {
+			last = chainEnd;
+		}
+		size += count;
 	}
 
 	@Override
 	public void clear() {
+		Node<T> removed = start;
 		//this basically deletes all references to the DataNodes
-		start = new EndNode<T>();
+		start = end();
+		last = null;
+		recycle(removed, size);
+		size = 0;
 	}
 
 	@Override
 	public int length() {
-		//inits the recursive method
-		return start.count(0);
+		return size;
+	}
+
+	/**
+	 * Sorts the list with a bottom-up natural merge sort. The chain is cut into the runs of elements that are already in order, and the runs are merged by relinking the nodes, so no data is moved and no node is created. A list that is already sorted is a single run and done after one pass.
+	 * The runs are merged like the digits of a binary counter are carried: bin <code>k</code> holds a sorted chain of about <code>2^k</code> runs, and a new run is merged with the bins from the lowest one up until it finds an empty bin. This way every merge works on nodes that were touched shortly before, which is much kinder to the caches than merging the whole list once per level.
+	 * @param comparator decides the order of the elements, or <code>null</code> to use their natural order
+	 */
+	@Override
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public void sort(Comparator<? super T> comparator) {
+		Comparator<? super T> order = comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+		if (size < 2) {
+			return;
+		}
+		//a list cannot have more than 2^32 runs, so 32 bins are always enough
+		Node<T>[] bins = new Node[32];
+		Node<T>[] binEnds = new Node[32];
+		Node<T>[] merged = new Node[1];
+		Node<T> rest = start;
+		while (!rest.isEnd()) {
+			//cuts off the next run
+			Node<T> run = rest;
+			Node<T> runLast = runEnd(run, order);
+			rest = runLast.getNext();
+			runLast.setNext(end());
+			int k = 0;
+			for (; bins[k] != null; k++) {
+				//the bin holds earlier elements than the run, so it comes first to keep the sort stable
+				run = merge(bins[k], binEnds[k], run, runLast, order, merged);
+				runLast = merged[0];
+				bins[k] = null;
+				binEnds[k] = null;
+			}
+			bins[k] = run;
+			binEnds[k] = runLast;
+		}
+		//the higher bins hold the earlier elements
+		Node<T> head = null;
+		Node<T> tail = null;
+		for (int k = 0; k < bins.length; k++) {
+			if (bins[k] == null) {
+				continue;
+			}
+			if (head == null) {
+				head = bins[k];
+				tail = binEnds[k];
+			} else {
+				head = merge(bins[k], binEnds[k], head, tail, order, merged);
+				tail = merged[0];
+			}
+		}
+		start = head;
+		last = tail;
+	}
+
+	/**
+	 * Merges two sorted chains into one by relinking their nodes. On equal elements the one of the first chain comes first.
+	 * @param a the first node of the first chain
+	 * @param aLast the last node of the first chain
+	 * @param b the first node of the second chain
+	 * @param bLast the last node of the second chain
+	 * @param order the order of the elements
+	 * @param last receives the last node of the merged chain
+	 * @return the first node of the merged chain
+	 */
+	private static <T> Node<T> merge(Node<T> a, Node<T> aLast, Node<T> b, Node<T> bLast, Comparator<? super T> order, Node<T>[] last) {
+		Node<T> head;
+		if (order.compare(b.getData(), a.getData()) < 0) {
+			head = b;
+			b = b.getNext();
+		} else {
+			head = a;
+			a = a.getNext();
+		}
+		Node<T> tail = head;
+		while (!a.isEnd() && !b.isEnd()) {
+			if (order.compare(b.getData(), a.getData()) < 0) {
+				tail.setNext(b);
+				tail = b;
+				b = b.getNext();
+			} else {
+				tail.setNext(a);
+				tail = a;
+				a = a.getNext();
+			}
+		}
+		//one chain is used up, the rest of the other one is linked as it is
+		if (a.isEnd()) {
+			tail.setNext(b);
+			last[0] = bLast;
+		} else {
+			tail.setNext(a);
+			last[0] = aLast;
+		}
+		return head;
+	}
+
+	/**
+	 * Walks to the last node of the run of elements in order that starts at the given node
+	 * @param node the first node of the run
+	 * @param order the order of the elements
+	 * @return the last node of the run
+	 */
+	private static <T> Node<T> runEnd(Node<T> node, Comparator<? super T> order) {
+		while (!node.getNext().isEnd() && order.compare(node.getNext().getData(), node.getData()) >= 0) {
+			node = node.getNext();
+		}
+		return node;
+	}
+
+	@Override
+	public int traversalCost(ListOperation operation, int i) {
+		//mirrors the calls to seek, which walk to the index unless it is the last one
+		switch (operation) {
+			case GET:
+			case SET:
+			case REMOVE_AFTER:
+			case REMOVE_BEFORE:
+				return i < 0 || i >= size - 1 ? 0 : i;
+			case REMOVE:
+			case REMOVE_RANGE:
+			case INSERT:
+			case SPLIT_AT:
+			case INSERT_ALL:
+				//these walk to the node before the index, inserting at the end and at the beginning does not walk at all
+				return i <= 0 || i >= size ? 0 : i - 1;
+			case TAKE:
+				return Math.max(0, size - 2);
+			case CONTAINS:
+			case INDEX_OF:
+			case REMOVE_FIRST:
+			case REMOVE_ALL:
+				//walks the whole list at most, only removeAll always does, the others stop at the first match, which is not known beforehand
+				return size;
+			default:
+				return 0;
+		}
+	}
+
+	@Override
+	public Spliterator<T> spliterator() {
+		//walks the chain of nodes once and splits off batches of them instead of looking up every index
+		return new BatchSpliterator<T>(cursor(), size);
+	}
+
+	@Override
+	public ICursor<T> cursor() {
+		return new NodeCursor();
 	}
 	
 }
@@ -0,0 +1,312 @@
+package com.github.erdragh.structures;
+
+import java.util.Comparator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * A decorator that makes any list thread-safe for workloads that mostly read. Reading threads do not take a lock at all, they read optimistically and only check afterwards that no thread changed the list in the meantime. Only if one did, the read is repeated under a read lock. Changing threads take the write lock, so they are serialized.
+ * Because an optimistic read can run while the list is being changed, it may see the list in a state that is half way through a change. Whatever it computes then is thrown away, including any exception it ran into. This works for lists whose reading methods never change any state of the list, only walk a bounded number of steps and only read memory of the Java heap.
+ * Lists that free or unmap native memory while they are changed, like <code>OffHeapList</code> and <code>MappedFileList</code>, cannot be read optimistically, since a read racing such a change touches memory that is gone and crashes the whole JVM instead of throwing an exception. For them every read takes the read lock. The same has to be asked for through the constructor when such a list is wrapped in another decorator.
+ * <p>
+ * <code>get</code> and <code>length</code> are read optimistically where that is allowed. <code>forEach</code>, <code>contains</code> and <code>indexOf</code> hold the read lock for the whole pass, so they see a consistent list. Cursors, spliterators and views go through <code>get</code> and <code>length</code> by index, so for a linked backing list they are slow.
+ * @author Erdragh
+ * @version 1.0
+ * @see StampedLock
+ */
+
+public class StampedList<T> implements IList<T> {
+
+	/**
+	 * The list that actually stores the data
+	 */
+	private final IList<T> list;
+	/**
+	 * The lock guarding the list
+	 */
+	private final StampedLock lock = new StampedLock();
+	/**
+	 * Whether <code>get</code> and <code>length</code> may read without taking the read lock
+	 */
+	private final boolean optimistic;
+
+	/**
+	 * Creates a thread-safe view of the given list. The list must not be used directly anymore afterwards, otherwise readers cannot notice changes.
+	 * Reads are optimistic if the list allows it, see <code>IList.allowsOptimisticReads</code>.
+	 * @param list the list that stores the data, for example a <code>SingleLinkedList</code> or an <code>ArrayRingList</code>
+	 */
+	public StampedList(IList<T> list) {
+		this(list, list.allowsOptimisticReads());
+	}
+
+	/**
+	 * Creates a thread-safe view of the given list. The list must not be used directly anymore afterwards, otherwise readers cannot notice changes.
+	 * @param list the list that stores the data
+	 * @param optimistic whether reads may run without the read lock, this must be <code>false</code> if the list frees or unmaps native memory while it is changed
+	 */
+	public StampedList(IList<T> list, boolean optimistic) {
+		this.list = list;
+		this.optimistic = optimistic;
+	}
+
+	@Override
+	public T get(int i) {
+		long stamp = optimistic ? lock.tryOptimisticRead() : 0;
+		if (stamp != 0) {
+			try {
+				T data = list.get(i);
+				if (lock.validate(stamp)) {
+					return data;
+				}
+			} catch (RuntimeException e) {
+				//the read ran into a change that was still in progress, it is repeated under the read lock below
+			}
+		}
+		stamp = lock.readLock();
+		try {
+			return list.get(i);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public int length() {
+		long stamp = optimistic ? lock.tryOptimisticRead() : 0;
+		if (stamp != 0) {
+			try {
+				int length = list.length();
+				if (lock.validate(stamp)) {
+					return length;
+				}
+			} catch (RuntimeException e) {
+				//the read ran into a change that was still in progress, it is repeated under the read lock below
+			}
+		}
+		stamp = lock.readLock();
+		try {
+			return list.length();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public void forEach(Consumer<? super T> action) {
+		long stamp = lock.readLock();
+		try {
+			list.forEach(action);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public void put(T data) {
+		long stamp = lock.writeLock();
+		try {
+			list.put(data);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void push(T data) {
+		long stamp = lock.writeLock();
+		try {
+			list.push(data);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public T take() {
+		long stamp = lock.writeLock();
+		try {
+			return list.take();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public T pull() {
+		long stamp = lock.writeLock();
+		try {
+			return list.pull();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void set(int i, T data) {
+		long stamp = lock.writeLock();
+		try {
+			list.set(i, data);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void remove(int i) {
+		long stamp = lock.writeLock();
+		try {
+			list.remove(i);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void insert(int i, T data) {
+		long stamp = lock.writeLock();
+		try {
+			list.insert(i, data);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		long stamp = lock.writeLock();
+		try {
+			list.removeAfter(i);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		long stamp = lock.writeLock();
+		try {
+			list.removeBefore(i);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public StampedList<T> splitAt(int i) {
+		long stamp = lock.writeLock();
+		try {
+			return new StampedList<T>(list.splitAt(i), optimistic);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void insertAll(int i, Iterable<? extends T> data) {
+		if (data == this) {
+			//reading this list would need the read lock while the write lock is held
+			IList.super.insertAll(i, data);
+			return;
+		}
+		long stamp = lock.writeLock();
+		try {
+			list.insertAll(i, data);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void appendList(IList<? extends T> other) {
+		if (other == this) {
+			throw new IllegalArgumentException("A list cannot be appended to itself");
+		}
+		long stamp = lock.writeLock();
+		try {
+			list.appendList(other);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void removeRange(int from, int to) {
+		long stamp = lock.writeLock();
+		try {
+			list.removeRange(from, to);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public boolean contains(Object value) {
+		long stamp = lock.readLock();
+		try {
+			return list.contains(value);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public int indexOf(Object value) {
+		long stamp = lock.readLock();
+		try {
+			return list.indexOf(value);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public boolean removeFirst(Object value) {
+		long stamp = lock.writeLock();
+		try {
+			return list.removeFirst(value);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public int removeAll(Object value) {
+		long stamp = lock.writeLock();
+		try {
+			return list.removeAll(value);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void sort(Comparator<? super T> comparator) {
+		long stamp = lock.writeLock();
+		try {
+			list.sort(comparator);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void clear() {
+		long stamp = lock.writeLock();
+		try {
+			list.clear();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public boolean isArrayBacked() {
+		return list.isArrayBacked();
+	}
+
+	@Override
+	public boolean allowsOptimisticReads() {
+		return list.allowsOptimisticReads();
+	}
+
+}
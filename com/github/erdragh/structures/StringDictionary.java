@@ -0,0 +1,366 @@
+package com.github.erdragh.structures;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Gives every distinct string a number, its code, so lists can store the code instead of the string. Codes are handed out in the order the strings are first seen, starting at <code>0</code>, and stay valid for as long as the dictionary exists, which is why one dictionary can be shared by many lists. Strings are never removed again.
+ * <p>
+ * By default the strings are kept as they are, so looking up a code gives back the very same instance every time. A front-coded dictionary stores them as UTF-8 in one byte array instead, in blocks of 16. The first string of a block is stored whole, every other one only as the length of the prefix it shares with the string before it and the bytes after that prefix. This saves a lot for strings that are mostly alike, like host names or paths, as long as similar strings are added one after another. Looking up a code then has to decode up to 16 strings, which still takes constant time, and the most recently decoded strings are cached.
+ * <p>
+ * The codes are found through an open addressing table holding only the codes and their hashes, so the index does not keep the strings alive on its own.
+ * Adding strings is not thread-safe, so <code>code</code> must not run at the same time as any other method. Any number of threads may look up strings and find codes at the same time, since decoding only uses local state and the cache of a front-coded dictionary holds entries that cannot be changed and are replaced with a single store.
+ * @author Erdragh
+ * @version 1.0
+ * @see DictionaryList
+ */
+
+public class StringDictionary {
+
+	/**
+	 * The number of strings in a block of a front-coded dictionary. Only the first string of a block is stored whole.
+	 */
+	private static final int BLOCK_SIZE = 16;
+	/**
+	 * The number of decoded strings a front-coded dictionary keeps, this has to be a power of two
+	 */
+	private static final int CACHE_SIZE = 256;
+
+	/**
+	 * Whether the strings are stored front-coded
+	 */
+	private final boolean frontCoded;
+	/**
+	 * The number of strings in the dictionary, which is also the code of the next new string
+	 */
+	private int size;
+	/**
+	 * The hash of every string by its code, so most strings that do not match never have to be compared
+	 */
+	private int[] hashes = new int[BLOCK_SIZE];
+	/**
+	 * The open addressing table, holding the code plus one of a string at the slot of its hash, or <code>0</code> for a free slot. It is never more than half full.
+	 */
+	private int[] table = new int[2 * BLOCK_SIZE];
+
+	/**
+	 * The strings by their code, if they are not front-coded
+	 */
+	private String[] strings;
+
+	/**
+	 * The front-coded strings, one block after another
+	 */
+	private byte[] bytes;
+	/**
+	 * The number of used bytes
+	 */
+	private int used;
+	/**
+	 * The position in <code>bytes</code> where every block starts
+	 */
+	private int[] blocks;
+	/**
+	 * The bytes of the last added string, which the next one is coded against
+	 */
+	private byte[] last;
+	/**
+	 * The number of bytes of the longest string, which is how large the array a string is decoded into has to be
+	 */
+	private int longest;
+	/**
+	 * The most recently decoded strings, at the position of their code in the cache
+	 */
+	private Decoded[] cache;
+
+	/**
+	 * A decoded string together with its code. It cannot be changed, so a reading thread always sees a string together with its own code, even if another thread replaces the entry in the cache at the same time.
+	 */
+	private static final class Decoded {
+		/**
+		 * The code of the string
+		 */
+		private final int code;
+		/**
+		 * The decoded string
+		 */
+		private final String string;
+
+		/**
+		 * Creates an entry of the cache
+		 * @param code the code of the string
+		 * @param string the decoded string
+		 */
+		private Decoded(int code, String string) {
+			this.code = code;
+			this.string = string;
+		}
+	}
+
+	/**
+	 * Creates an empty dictionary that keeps the strings as they are
+	 */
+	public StringDictionary() {
+		this(false);
+	}
+
+	/**
+	 * Creates an empty dictionary
+	 * @param frontCoded whether the strings should be stored front-coded, which takes less memory for similar strings but makes looking them up slower
+	 */
+	public StringDictionary(boolean frontCoded) {
+		this.frontCoded = frontCoded;
+		if (frontCoded) {
+			bytes = new byte[256];
+			blocks = new int[1];
+			last = new byte[0];
+			cache = new Decoded[CACHE_SIZE];
+		} else {
+			strings = new String[BLOCK_SIZE];
+		}
+	}
+
+	/**
+	 * Tells whether the strings are stored front-coded
+	 * @return <code>true</code> if the dictionary is front-coded
+	 */
+	public boolean isFrontCoded() {
+		return frontCoded;
+	}
+
+	/**
+	 * Gives back the code of the string, adding the string to the dictionary if it is not in it yet
+	 * @param string the string, this must not be <code>null</code>
+	 * @return the code of the string
+	 */
+	public int code(String string) {
+		int hash = string.hashCode();
+		int mask = table.length - 1;
+		int slot = slot(hash, mask);
+		while (table[slot] != 0) {
+			int code = table[slot] - 1;
+			if (hashes[code] == hash && matches(code, string)) {
+				return code;
+			}
+			slot = (slot + 1) & mask;
+		}
+		int code = add(string, hash);
+		table[slot] = code + 1;
+		if (size * 2 > table.length) {
+			rehash();
+		}
+		return code;
+	}
+
+	/**
+	 * Finds the code of the string without adding it
+	 * @param string the string, this must not be <code>null</code>
+	 * @return the code of the string, or <code>-1</code> if it is not in the dictionary
+	 */
+	public int find(String string) {
+		int hash = string.hashCode();
+		int mask = table.length - 1;
+		for (int slot = slot(hash, mask); table[slot] != 0; slot = (slot + 1) & mask) {
+			int code = table[slot] - 1;
+			if (hashes[code] == hash && matches(code, string)) {
+				return code;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Gives back the string with the given code
+	 * @param code the code of the string
+	 * @return the string, or <code>null</code> if there is no string with the code
+	 */
+	public String string(int code) {
+		if (code < 0 || code >= size) {
+			//there is no string with this code
+			return null;
+		}
+		if (!frontCoded) {
+			return strings[code];
+		}
+		int slot = code & (CACHE_SIZE - 1);
+		Decoded decoded = cache[slot];
+		if (decoded == null || decoded.code != code) {
+			//the entry is replaced with a single store, threads reading at the same time see either the old or the new one
+			decoded = new Decoded(code, decode(code));
+			cache[slot] = decoded;
+		}
+		return decoded.string;
+	}
+
+	/**
+	 * Gives back the number of strings in the dictionary
+	 * @return the number of strings, every code is below it
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Spreads the hash over the table, so strings with similar hashes do not end up in one long run of slots
+	 * @param hash the hash of a string
+	 * @param mask the length of the table minus one
+	 * @return the slot where the search for the string starts
+	 */
+	private static int slot(int hash, int mask) {
+		int spread = hash * 0x9E3779B9;
+		return (spread ^ (spread >>> 16)) & mask;
+	}
+
+	/**
+	 * Doubles the table and puts every code into it again
+	 */
+	private void rehash() {
+		int[] grown = new int[table.length << 1];
+		int mask = grown.length - 1;
+		for (int code = 0; code < size; code++) {
+			int slot = slot(hashes[code], mask);
+			while (grown[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			grown[slot] = code + 1;
+		}
+		table = grown;
+	}
+
+	/**
+	 * Tells whether the string with the given code is equal to the given one
+	 * @param code the code of a string in the dictionary
+	 * @param string the string to compare with
+	 * @return <code>true</code> if they are equal
+	 */
+	private boolean matches(int code, String string) {
+		if (!frontCoded) {
+			return strings[code].equals(string);
+		}
+		//the cache usually holds the string, which saves decoding it
+		return string.equals(string(code));
+	}
+
+	/**
+	 * Adds a string that is not in the dictionary yet
+	 * @param string the new string
+	 * @param hash the hash of the string
+	 * @return the code of the string
+	 */
+	private int add(String string, int hash) {
+		if (size == Integer.MAX_VALUE - 1) {
+			throw new IllegalStateException("Dictionary is too large");
+		}
+		int code = size;
+		if (code == hashes.length) {
+			hashes = Arrays.copyOf(hashes, code << 1);
+			if (!frontCoded) {
+				strings = Arrays.copyOf(strings, code << 1);
+			}
+		}
+		hashes[code] = hash;
+		if (frontCoded) {
+			encode(string.getBytes(StandardCharsets.UTF_8), code);
+			cache[code & (CACHE_SIZE - 1)] = new Decoded(code, string);
+		} else {
+			strings[code] = string;
+		}
+		size++;
+		return code;
+	}
+
+	/**
+	 * Appends a string to the front-coded bytes
+	 * @param string the bytes of the new string
+	 * @param code the code of the new string
+	 */
+	private void encode(byte[] string, int code) {
+		//a number takes at most five bytes, and at most two are written per string
+		ensureBytes(10 + string.length);
+		int prefix = 0;
+		if (code % BLOCK_SIZE == 0) {
+			//the string starts a new block, so it is stored whole
+			int block = code / BLOCK_SIZE;
+			if (block == blocks.length) {
+				blocks = Arrays.copyOf(blocks, block << 1);
+			}
+			blocks[block] = used;
+		} else {
+			int limit = Math.min(last.length, string.length);
+			while (prefix < limit && last[prefix] == string[prefix]) {
+				prefix++;
+			}
+			writeNumber(prefix);
+		}
+		writeNumber(string.length - prefix);
+		System.arraycopy(string, prefix, bytes, used, string.length - prefix);
+		used += string.length - prefix;
+		last = string;
+		longest = Math.max(longest, string.length);
+	}
+
+	/**
+	 * Makes sure the given number of bytes can still be written
+	 * @param count the number of bytes to be written
+	 */
+	private void ensureBytes(int count) {
+		if (count <= bytes.length - used) {
+			return;
+		}
+		long needed = (long) used + count;
+		if (needed > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException("Dictionary is too large");
+		}
+		bytes = Arrays.copyOf(bytes, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(needed, (long) bytes.length << 1)));
+	}
+
+	/**
+	 * Writes a number that is not negative, seven bits per byte, so small numbers take a single byte
+	 * @param number the number to be written
+	 */
+	private void writeNumber(int number) {
+		while (number >= 0x80) {
+			bytes[used++] = (byte) (number | 0x80);
+			number >>>= 7;
+		}
+		bytes[used++] = (byte) number;
+	}
+
+	/**
+	 * Decodes a front-coded string by going through its block up to it. Everything it changes is local, so any number of threads can decode at the same time as long as no string is added.
+	 * @param code the code of the string
+	 * @return the decoded string
+	 */
+	private String decode(int code) {
+		byte[] bytes = this.bytes;
+		byte[] string = new byte[longest];
+		int position = blocks[code / BLOCK_SIZE];
+		int length = 0;
+		for (int k = 0; k <= code % BLOCK_SIZE; k++) {
+			//the first string of the block has no prefix, every other one keeps the given part of the string before it
+			int prefix = 0;
+			if (k > 0) {
+				for (int shift = 0; ; shift += 7) {
+					byte b = bytes[position++];
+					prefix |= (b & 0x7F) << shift;
+					if (b >= 0) {
+						break;
+					}
+				}
+			}
+			int suffix = 0;
+			for (int shift = 0; ; shift += 7) {
+				byte b = bytes[position++];
+				suffix |= (b & 0x7F) << shift;
+				if (b >= 0) {
+					break;
+				}
+			}
+			System.arraycopy(bytes, position, string, prefix, suffix);
+			position += suffix;
+			length = prefix + suffix;
+		}
+		return new String(string, 0, length, StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,190 @@
+package com.github.erdragh.structures;
+
+/**
+ * A view of a range of another list, as created by <code>IList.subList</code>. It translates every index to the index in the backing list and keeps track of its own length as elements are added and removed through it, so nothing is ever copied. Reading an element costs as much as reading it from the backing list.
+ * Lists that cannot reach an index quickly should create views of their own, which remember where the range starts.
+ * @author Erdragh
+ * @version 1.0
+ * @see IList#subList(int, int)
+ */
+class SubList<T> implements IList<T> {
+
+	/**
+	 * The list the view reads and changes
+	 */
+	private final IList<T> list;
+	/**
+	 * The index in the backing list where the view starts
+	 */
+	private final int offset;
+	/**
+	 * The number of elements in the view
+	 */
+	private int size;
+
+	/**
+	 * Creates a view of a range of a list
+	 * @param list the backing list
+	 * @param offset the index in the backing list where the view starts
+	 * @param size the number of elements in the view
+	 */
+	SubList(IList<T> list, int offset, int size) {
+		this.list = list;
+		this.offset = offset;
+		this.size = size;
+	}
+
+	@Override
+	public void put(T data) {
+		list.insert(offset + size, data);
+		size++;
+	}
+
+	@Override
+	public void push(T data) {
+		list.insert(offset, data);
+		size++;
+	}
+
+	@Override
+	public T take() {
+		if (size == 0) {
+			return null;
+		}
+		T data = list.get(offset + size - 1);
+		list.remove(offset + size - 1);
+		size--;
+		return data;
+	}
+
+	@Override
+	public T pull() {
+		if (size == 0) {
+			return null;
+		}
+		T data = list.get(offset);
+		list.remove(offset);
+		size--;
+		return data;
+	}
+
+	@Override
+	public T get(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the view
+			return null;
+		}
+		return list.get(offset + i);
+	}
+
+	@Override
+	public void set(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the view
+			return;
+		}
+		if (i == size) {
+			//the index is immediately after the end, so the data is added as a new element
+			put(data);
+		} else {
+			list.set(offset + i, data);
+		}
+	}
+
+	@Override
+	public void remove(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the view
+			return;
+		}
+		list.remove(offset + i);
+		size--;
+	}
+
+	@Override
+	public void insert(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the view
+			return;
+		}
+		list.insert(offset + i, data);
+		size++;
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		if (i < 0 || i >= size) {
+			//Do nothing, since index i is out of bounds for the view
+			return;
+		}
+		removeRange(i + 1, size);
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		if (i < 0 || i >= size) {
+			//if the index is out of bounds the whole view is removed, just like in the lists
+			clear();
+			return;
+		}
+		removeRange(0, i);
+	}
+
+	@Override
+	public void removeRange(int from, int to) {
+		if (from < 0 || to > size || from >= to) {
+			//Range out of bounds for the view, or empty
+			return;
+		}
+		list.removeRange(offset + from, offset + to);
+		size -= to - from;
+	}
+
+	/**
+	 * A view cannot be split, since the elements after the index would have to leave the backing list
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public IList<T> splitAt(int i) {
+		throw new UnsupportedOperationException("A sub list cannot be split");
+	}
+
+	@Override
+	public void insertAll(int i, Iterable<? extends T> data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the view
+			return;
+		}
+		if (data == this) {
+			//the view would grow while it is read, so it is copied first
+			ArrayRingList<T> copy = new ArrayRingList<T>(size);
+			copy.putAll(this);
+			data = copy;
+		}
+		//the backing list tells how many elements it took, since the data may be read only once
+		int before = list.length();
+		list.insertAll(offset + i, data);
+		size += list.length() - before;
+	}
+
+	@Override
+	public void clear() {
+		removeRange(0, size);
+	}
+
+	@Override
+	public int length() {
+		return size;
+	}
+
+	@Override
+	public boolean isArrayBacked() {
+		return list.isArrayBacked();
+	}
+
+	@Override
+	public boolean allowsOptimisticReads() {
+		return list.allowsOptimisticReads();
+	}
+
+}
@@ -0,0 +1,649 @@
+package com.github.erdragh.structures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/**
+ * An implementation of an unrolled linked list. Instead of a single element every node stores a small array of elements, so walking the list touches far fewer objects. Chunks are split and merged so that every chunk stays at least half full.
+ * @author Erdragh
+ * @version 1.0
+ * @see Chunk
+ */
+
+public class UnrolledLinkedList<T> implements IList<T> {
+
+	/**
+	 * The number of elements a chunk can hold if no other size is given.
+	 */
+	private static final int DEFAULT_CHUNK_SIZE = 64;
+
+	/**
+	 * The number of elements every chunk of this list can hold.
+	 */
+	private final int chunkSize;
+	/**
+	 * The first chunk of the list. It is <code>null</code> while the list is empty.
+	 */
+	private Chunk first;
+	/**
+	 * The last chunk of the list. It is <code>null</code> while the list is empty.
+	 */
+	private Chunk last;
+	/**
+	 * The number of elements in the list.
+	 */
+	private int size;
+	/**
+	 * The index inside the chunk that was found by the last call to <code>seek</code>
+	 */
+	private int seekIndex;
+
+	/**
+	 * A simple constructor creating an empty list with the default chunk size
+	 */
+	public UnrolledLinkedList() {
+		this(DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * A constructor creating an empty list with the given chunk size
+	 * @param chunkSize the number of elements every chunk can hold, has to be at least 2
+	 */
+	public UnrolledLinkedList(int chunkSize) {
+		if (chunkSize < 2) {
+			throw new IllegalArgumentException("Chunk size must be at least 2: " + chunkSize);
+		}
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * A node of the list structure holding up to <code>chunkSize</code> elements. The elements are stored in <code>elements</code> from <code>start</code> on, so elements can be added and removed at both ends of a chunk without moving the others.
+	 */
+	private static class Chunk {
+		/**
+		 * The array holding the elements of this chunk
+		 */
+		private final Object[] elements;
+		/**
+		 * The position of the first element of this chunk in the array
+		 */
+		private int start;
+		/**
+		 * The number of elements in this chunk
+		 */
+		private int count;
+		/**
+		 * The chunk before this one, or <code>null</code> if this is the first one
+		 */
+		private Chunk prev;
+		/**
+		 * The chunk after this one, or <code>null</code> if this is the last one
+		 */
+		private Chunk next;
+
+		/**
+		 * A simple constructor for an empty chunk
+		 * @param chunkSize the number of elements the chunk can hold
+		 */
+		public Chunk(int chunkSize) {
+			this.elements = new Object[chunkSize];
+		}
+
+		/**
+		 * Inserts an element into this chunk, which must not be full.
+		 * @param j the index inside the chunk where the element is inserted
+		 * @param data the element to be inserted
+		 */
+		public void insertAt(int j, Object data) {
+			if ((j < count / 2 || start + count == elements.length) && start > 0) {
+				//there is space at the beginning and it is closer, so the elements before the index are moved one down
+				System.arraycopy(elements, start, elements, start - 1, j);
+				start--;
+			} else {
+				if (start + count == elements.length) {
+					compact();
+				}
+				//the elements from the index on are moved one up
+				System.arraycopy(elements, start + j, elements, start + j + 1, count - j);
+			}
+			elements[start + j] = data;
+			count++;
+		}
+
+		/**
+		 * Removes an element from this chunk
+		 * @param j the index inside the chunk of the element to be removed
+		 * @return the removed element
+		 */
+		public Object removeAt(int j) {
+			Object data = elements[start + j];
+			if (j < count / 2) {
+				//the elements before the index are moved one up and the chunk starts one later
+				System.arraycopy(elements, start, elements, start + 1, j);
+				elements[start++] = null;
+			} else {
+				//the elements after the index are moved one down
+				System.arraycopy(elements, start + j + 1, elements, start + j, count - j - 1);
+				elements[start + count - 1] = null;
+			}
+			count--;
+			return data;
+		}
+
+		/**
+		 * Moves the elements to the beginning of the array, so all free space is at the end
+		 */
+		public void compact() {
+			if (start == 0) {
+				return;
+			}
+			System.arraycopy(elements, start, elements, 0, count);
+			Arrays.fill(elements, count, start + count, null);
+			start = 0;
+		}
+
+		/**
+		 * Moves the elements to the end of the array, so all free space is at the beginning
+		 */
+		public void alignEnd() {
+			int end = elements.length - count;
+			if (start == end) {
+				return;
+			}
+			System.arraycopy(elements, start, elements, end, count);
+			Arrays.fill(elements, start, Math.min(end, start + count), null);
+			start = end;
+		}
+	}
+
+	/**
+	 * A cursor that walks through the chunks, so a pass over the list does not have to look up every index. Changes through the cursor can move elements between chunks, so the cursor looks up its position again after every change.
+	 * @see ICursor
+	 */
+	private class ChunkCursor implements ICursor<T> {
+		/**
+		 * The chunk holding the element the next call to <code>next</code> returns
+		 */
+		private Chunk chunk = first;
+		/**
+		 * The index inside <code>chunk</code> of the element the next call to <code>next</code> returns
+		 */
+		private int j;
+		/**
+		 * The index in the list of the element the next call to <code>next</code> returns
+		 */
+		private int index;
+		/**
+		 * The index in the list of the element the cursor is on, or -1 if it is not on an element
+		 */
+		private int current = -1;
+
+		@Override
+		public boolean hasNext() {
+			return index < size;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+			if (index >= size) {
+				throw new NoSuchElementException();
+			}
+			if (j == chunk.count) {
+				chunk = chunk.next;
+				j = 0;
+			}
+			current = index++;
+			return (T) chunk.elements[chunk.start + j++];
+		}
+
+		@Override
+		public void set(T data) {
+			checkCurrent();
+			//the element the cursor is on is always the one right before the next one
+			if (j > 0) {
+				chunk.elements[chunk.start + j - 1] = data;
+			} else {
+				UnrolledLinkedList.this.set(current, data);
+			}
+		}
+
+		@Override
+		public void remove() {
+			checkCurrent();
+			UnrolledLinkedList.this.remove(current);
+			index = current;
+			current = -1;
+			reposition();
+		}
+
+		@Override
+		public void insertBefore(T data) {
+			checkCurrent();
+			insert(current, data);
+			current++;
+			index++;
+			reposition();
+		}
+
+		@Override
+		public void insertAfter(T data) {
+			checkCurrent();
+			insert(current + 1, data);
+			reposition();
+		}
+
+		/**
+		 * Finds the chunk and the index inside it of the next element again after the structure was changed
+		 */
+		private void reposition() {
+			if (index < size) {
+				chunk = seek(index);
+				j = seekIndex;
+			} else {
+				//the cursor is at the end, the last chunk is completely passed
+				chunk = last;
+				j = last == null ? 0 : last.count;
+			}
+		}
+
+		/**
+		 * Makes sure the cursor is on an element
+		 */
+		private void checkCurrent() {
+			if (current < 0) {
+				throw new IllegalStateException("The cursor is not on an element");
+			}
+		}
+	}
+
+	/**
+	 * Walks to the chunk holding the element at the given index. The walk starts at whichever end of the list is closer. The index inside the chunk is stored in <code>seekIndex</code>.
+	 * @param i the index of the element, this has to be in bounds, which every caller checks beforehand
+	 * @return the chunk holding the element
+	 */
+	private Chunk seek(int i) {
+		Chunk chunk;
+		if (i < size / 2) {
+			chunk = first;
+			while (i >= chunk.count) {
+				i -= chunk.count;
+				chunk = chunk.next;
+			}
+		} else {
+			//counts the index from the end of the list instead
+			int fromEnd = size - 1 - i;
+			chunk = last;
+			while (fromEnd >= chunk.count) {
+				fromEnd -= chunk.count;
+				chunk = chunk.prev;
+			}
+			i = chunk.count - 1 - fromEnd;
+		}
+		seekIndex = i;
+		return chunk;
+	}
+
+	/**
+	 * Splits a full chunk in two by moving its upper half into a new chunk after it
+	 * @param chunk the chunk to be split
+	 */
+	private void split(Chunk chunk) {
+		Chunk upper = new Chunk(chunkSize);
+		int half = chunk.count / 2;
+		upper.count = chunk.count - half;
+		System.arraycopy(chunk.elements, chunk.start + half, upper.elements, 0, upper.count);
+		Arrays.fill(chunk.elements, chunk.start + half, chunk.start + chunk.count, null);
+		chunk.count = half;
+		link(chunk, upper);
+	}
+
+	/**
+	 * Links a new chunk into the list structure after another one
+	 * @param prev the chunk after which the new chunk is linked, or <code>null</code> to link it as the first chunk
+	 * @param chunk the new chunk
+	 */
+	private void link(Chunk prev, Chunk chunk) {
+		chunk.prev = prev;
+		chunk.next = prev == null ? first : prev.next;
+		if (chunk.prev == null) {
+			first = chunk;
+		} else {
+			chunk.prev.next = chunk;
+		}
+		if (chunk.next == null) {
+			last = chunk;
+		} else {
+			chunk.next.prev = chunk;
+		}
+	}
+
+	/**
+	 * Removes a chunk from the list structure
+	 * @param chunk the chunk to be removed
+	 */
+	private void unlink(Chunk chunk) {
+		if (chunk.prev == null) {
+			first = chunk.next;
+		} else {
+			chunk.prev.next = chunk.next;
+		}
+		if (chunk.next == null) {
+			last = chunk.prev;
+		} else {
+			chunk.next.prev = chunk.prev;
+		}
+	}
+
+	/**
+	 * Restores the rule that every chunk is at least half full after elements were removed from a chunk. A chunk below that is merged with a neighbour if both fit into one chunk, otherwise elements are moved over from the neighbour until both are evenly filled.
+	 * @param chunk the chunk elements were removed from
+	 */
+	private void rebalance(Chunk chunk) {
+		if (chunk.count == 0) {
+			unlink(chunk);
+			return;
+		}
+		if (chunk.count >= chunkSize / 2) {
+			return;
+		}
+		Chunk left;
+		Chunk right;
+		if (chunk.next != null) {
+			left = chunk;
+			right = chunk.next;
+		} else if (chunk.prev != null) {
+			left = chunk.prev;
+			right = chunk;
+		} else {
+			//a single chunk may hold any number of elements
+			return;
+		}
+		if (left.count + right.count <= chunkSize) {
+			//both fit into the left chunk, so the right one is dropped
+			left.compact();
+			System.arraycopy(right.elements, right.start, left.elements, left.count, right.count);
+			left.count += right.count;
+			unlink(right);
+			return;
+		}
+		int target = (left.count + right.count) / 2;
+		if (left.count < target) {
+			//moves elements from the beginning of the right chunk to the end of the left one
+			int moved = target - left.count;
+			left.compact();
+			System.arraycopy(right.elements, right.start, left.elements, left.count, moved);
+			Arrays.fill(right.elements, right.start, right.start + moved, null);
+			left.count += moved;
+			right.start += moved;
+			right.count -= moved;
+		} else {
+			//moves elements from the end of the left chunk to the beginning of the right one
+			int moved = left.count - target;
+			right.alignEnd();
+			System.arraycopy(left.elements, left.start + target, right.elements, right.start - moved, moved);
+			Arrays.fill(left.elements, left.start + target, left.start + left.count, null);
+			right.start -= moved;
+			right.count += moved;
+			left.count = target;
+		}
+	}
+
+	@Override
+	public void put(T data) {
+		if (last == null) {
+			link(null, new Chunk(chunkSize));
+		} else if (last.count == chunkSize) {
+			split(last);
+		}
+		last.insertAt(last.count, data);
+		size++;
+	}
+
+	@Override
+	public void push(T data) {
+		if (first == null) {
+			link(null, new Chunk(chunkSize));
+		} else if (first.count == chunkSize) {
+			split(first);
+		}
+		first.insertAt(0, data);
+		size++;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T take() {
+		if (size == 0) {
+			return null;
+		}
+		Chunk chunk = last;
+		T data = (T) chunk.removeAt(chunk.count - 1);
+		size--;
+		rebalance(chunk);
+		return data;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T pull() {
+		if (size == 0) {
+			return null;
+		}
+		Chunk chunk = first;
+		T data = (T) chunk.removeAt(0);
+		size--;
+		rebalance(chunk);
+		return data;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return null;
+		}
+		//walks without using seek, so reading never changes any state of the list
+		if (i < size / 2) {
+			for (Chunk chunk = first;; chunk = chunk.next) {
+				if (i < chunk.count) {
+					return (T) chunk.elements[chunk.start + i];
+				}
+				i -= chunk.count;
+			}
+		}
+		int fromEnd = size - 1 - i;
+		for (Chunk chunk = last;; chunk = chunk.prev) {
+			if (fromEnd < chunk.count) {
+				return (T) chunk.elements[chunk.start + chunk.count - 1 - fromEnd];
+			}
+			fromEnd -= chunk.count;
+		}
+	}
+
+	@Override
+	public void set(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == size) {
+			//the index is immediately after the end, so the data is added as a new element
+			put(data);
+			return;
+		}
+		Chunk chunk = seek(i);
+		chunk.elements[chunk.start + seekIndex] = data;
+	}
+
+	@Override
+	public void remove(int i) {
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List
+			return;
+		}
+		Chunk chunk = seek(i);
+		chunk.removeAt(seekIndex);
+		size--;
+		rebalance(chunk);
+	}
+
+	@Override
+	public void insert(int i, T data) {
+		if (i < 0 || i > size) {
+			//Index out of bounds for the List
+			return;
+		}
+		if (i == size) {
+			put(data);
+			return;
+		}
+		Chunk chunk = seek(i);
+		int j = seekIndex;
+		if (chunk.count == chunkSize) {
+			split(chunk);
+			if (j > chunk.count) {
+				//the index now lies in the upper half that was moved into the next chunk
+				j -= chunk.count;
+				chunk = chunk.next;
+			}
+		}
+		chunk.insertAt(j, data);
+		size++;
+	}
+
+	@Override
+	public void removeAfter(int i) {
+		if (i < 0 || i >= size) {
+			//Do nothing, since index i is out of bounds for the List
+			return;
+		}
+		Chunk chunk = seek(i);
+		int j = seekIndex;
+		//drops the rest of the chunk and all chunks after it
+		Arrays.fill(chunk.elements, chunk.start + j + 1, chunk.start + chunk.count, null);
+		chunk.count = j + 1;
+		chunk.next = null;
+		last = chunk;
+		size = i + 1;
+		rebalance(chunk);
+	}
+
+	@Override
+	public void removeBefore(int i) {
+		if (i < 0 || i >= size) {
+			//if the index is out of bounds the whole list is removed, just like in the other lists
+			clear();
+			return;
+		}
+		Chunk chunk = seek(i);
+		int j = seekIndex;
+		//drops the beginning of the chunk and all chunks before it
+		Arrays.fill(chunk.elements, chunk.start, chunk.start + j, null);
+		chunk.start += j;
+		chunk.count -= j;
+		chunk.prev = null;
+		first = chunk;
+		size -= i;
+		rebalance(chunk);
+	}
+
+	@Override
+	public UnrolledLinkedList<T> splitAt(int i) {
+		UnrolledLinkedList<T> tail = new UnrolledLinkedList<T>(chunkSize);
+		if (i < 0 || i >= size) {
+			//Index out of bounds for the List, or there is nothing after it
+			return tail;
+		}
+		if (i == 0) {
+			//all chunks move to the new list
+			tail.first = first;
+			tail.last = last;
+			tail.size = size;
+			clear();
+			return tail;
+		}
+		Chunk chunk = seek(i);
+		int j = seekIndex;
+		if (j > 0) {
+			//the chunk is cut at the index, the part from the index on becomes a chunk of its own
+			Chunk upper = new Chunk(chunkSize);
+			upper.count = chunk.count - j;
+			System.arraycopy(chunk.elements, chunk.start + j, upper.elements, 0, upper.count);
+			Arrays.fill(chunk.elements, chunk.start + j, chunk.start + chunk.count, null);
+			chunk.count = j;
+			link(chunk, upper);
+			chunk = upper;
+		}
+		//the chunks from the cut on are handed over to the new list as they are
+		tail.first = chunk;
+		tail.last = last;
+		tail.size = size - i;
+		last = chunk.prev;
+		last.next = null;
+		chunk.prev = null;
+		size = i;
+		//only the chunks at the cut can have become less than half full
+		rebalance(last);
+		tail.rebalance(tail.first);
+		return tail;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void appendList(IList<? extends T> other) {
+		if (!(other instanceof UnrolledLinkedList) || ((UnrolledLinkedList<?>) other).chunkSize != chunkSize) {
+			IList.super.appendList(other);
+			return;
+		}
+		if (other == this) {
+			throw new IllegalArgumentException("A list cannot be appended to itself");
+		}
+		//the chunks only ever hand out their elements as T, so the chunks of the other list can be taken over as they are
+		UnrolledLinkedList<T> list = (UnrolledLinkedList<T>) other;
+		if (list.size == 0) {
+			return;
+		}
+		Chunk seam = last;
+		if (seam == null) {
+			first = list.first;
+		} else {
+			seam.next = list.first;
+			list.first.prev = seam;
+		}
+		last = list.last;
+		size += list.size;
+		list.clear();
+		if (seam != null) {
+			//the two chunks meeting at the seam may both be the less than half full end chunks of their lists
+			rebalance(seam.next);
+			rebalance(seam);
+		}
+	}
+
+	@Override
+	public void clear() {
+		first = null;
+		last = null;
+		size = 0;
+	}
+
+	@Override
+	public int length() {
+		return size;
+	}
+
+	@Override
+	public Spliterator<T> spliterator() {
+		//walks the chunks once and splits off batches of elements instead of looking up every index
+		return new BatchSpliterator<T>(cursor(), size);
+	}
+
+	@Override
+	public ICursor<T> cursor() {
+		return new ChunkCursor();
+	}
+
+}